@@ -2,6 +2,8 @@ package com.movelog.domain.auth.application;
 
 import com.movelog.domain.auth.dto.NicknameRes;
 import com.movelog.domain.user.domain.User;
+import com.movelog.domain.user.domain.event.UserCreatedEvent;
+import com.movelog.domain.user.domain.event.UserDeletedEvent;
 import com.movelog.domain.user.domain.repository.UserRepository;
 import com.movelog.global.config.security.token.UserPrincipal;
 import com.movelog.global.payload.Message;
@@ -9,6 +11,7 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +23,7 @@ import java.util.Optional;
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public User findOrCreateUser(String provider, String idToken) {
@@ -35,7 +39,14 @@ public class AuthService {
             return optionalUser.get();
         } else {
             User newUser = new User("", username, email, "ROLE_USER", provider, providerId);
-            return userRepository.save(newUser);
+            User savedUser = userRepository.save(newUser);
+
+            // 커밋 이후 가입 코호트 비트맵 갱신
+            eventPublisher.publishEvent(UserCreatedEvent.builder()
+                    .userId(savedUser.getId())
+                    .createdAt(savedUser.getCreatedAt())
+                    .build());
+            return savedUser;
         }
     }
 
@@ -53,6 +64,10 @@ public class AuthService {
     public Message unlinkAccount(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(EntityNotFoundException::new);
+        // 삭제 전에 발행하여 같은 트랜잭션에서 통계를 차감하고, 커밋 이후 사용자별 캐시 정리
+        eventPublisher.publishEvent(UserDeletedEvent.builder()
+                .userId(userId)
+                .build());
         userRepository.delete(user);
         return Message.builder()
                 .message("회원 탈퇴에 성공 했습니다.")
@@ -1,12 +1,16 @@
 package com.movelog.domain.news.application;
 
 import com.movelog.domain.news.domain.News;
+import com.movelog.domain.news.domain.event.NewsCreatedEvent;
 import com.movelog.domain.news.domain.repository.NewsRepository;
+import com.movelog.domain.news.dto.projection.NewsRow;
 import com.movelog.domain.news.dto.request.CreateNewsReq;
 import com.movelog.domain.news.dto.request.NewsHeadLineReq;
 import com.movelog.domain.news.dto.response.*;
 import com.movelog.domain.record.domain.Keyword;
 import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.dto.request.UploadUrlReq;
+import com.movelog.domain.record.dto.response.UploadUrlRes;
 import com.movelog.domain.record.exception.KeywordNotFoundException;
 import com.movelog.domain.record.domain.repository.KeywordRepository;
 import com.movelog.domain.user.application.UserService;
@@ -14,14 +18,16 @@ import com.movelog.domain.user.domain.User;
 import com.movelog.domain.user.domain.repository.UserRepository;
 import com.movelog.domain.user.exception.UserNotFoundException;
 import com.movelog.global.config.security.token.UserPrincipal;
-import com.movelog.global.util.S3Util;
+import com.movelog.global.util.S3UploadPipeline;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
@@ -32,12 +38,16 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NewsService {
+    private static final String NEWS_FOLDER = "news";
+
     private final HeadLineGeneratorService headLineGeneratorService;
     private final UserService userService;
     private final UserRepository userRepository;
     private final KeywordRepository keywordRepository;
     private final NewsRepository newsRepository;
-    private final S3Util s3Util;
+    private final S3UploadPipeline s3UploadPipeline;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<HeadLineRes> createHeadLine(UserPrincipal userPrincipal, Long keywordId, NewsHeadLineReq newsHeadLineReq) {
         User user = validateUser(userPrincipal);
@@ -51,23 +61,57 @@ public class NewsService {
         return headLineGeneratorService.generateHeadLine(user.getId(), option, verb, noun);
     }
 
-    @Transactional
+    /**
+     * 뉴스 이미지 직접 업로드용 URL 발급
+     */
+    public UploadUrlRes createUploadUrl(UserPrincipal userPrincipal, UploadUrlReq uploadUrlReq) {
+        User user = validateUser(userPrincipal);
+        S3UploadPipeline.UploadUrl uploadUrl = s3UploadPipeline.createUploadUrl(user.getId(), NEWS_FOLDER, uploadUrlReq.getFileName(), uploadUrlReq.getContentType());
+
+        return UploadUrlRes.builder()
+                .objectKey(uploadUrl.objectKey())
+                .uploadUrl(uploadUrl.uploadUrl())
+                .expiresAt(uploadUrl.expiresAt())
+                .build();
+    }
+
+    /**
+     * 뉴스 생성
+     * 이미지 업로드는 트랜잭션 밖에서 먼저 끝내고, 뉴스 INSERT만 짧은 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void createNews(UserPrincipal userPrincipal, Long keywordId, CreateNewsReq createNewsReq, MultipartFile img) {
         User user = validateUser(userPrincipal);
         // id가 5인 유저 정보(테스트용)
         // User user = userRepository.findById(5L).orElseThrow(UserNotFoundException::new);
         Keyword keyword = validateKeyword(keywordId);
 
-        String newsImgUrl = s3Util.uploadToNewsFolder(img);
-
-        News news = News.builder()
-                .headLine(createNewsReq.getHeadLine())
-                .newsUrl(newsImgUrl)
-                .keyword(keyword)
-                .build();
-
-        newsRepository.save(news);
-
+        // 이미지: multipart로 받은 파일을 업로드하거나, 업로드 URL로 직접 올린 객체를 검증
+        S3UploadPipeline.UploadedObject uploaded = img != null
+                ? s3UploadPipeline.uploadToNewsFolder(img)
+                : s3UploadPipeline.verifyDirectUpload(user.getId(), NEWS_FOLDER, createNewsReq.getObjectKey());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                News news = News.builder()
+                        .headLine(createNewsReq.getHeadLine())
+                        .newsUrl(uploaded.url())
+                        .keyword(keywordRepository.getReferenceById(keyword.getKeywordId()))
+                        .build();
+
+                newsRepository.save(news);
+
+                // 커밋 이후 썸네일 생성 (NewsThumbnailUpdater)
+                eventPublisher.publishEvent(NewsCreatedEvent.builder()
+                        .newsId(news.getNewsId())
+                        .imageObjectKey(uploaded.objectKey())
+                        .build());
+            });
+        } catch (RuntimeException e) {
+            // 뉴스가 저장되지 않았으면 이 요청이 올린 이미지 정리
+            s3UploadPipeline.discard(user.getId(), uploaded);
+            throw e;
+        }
     }
 
     public List<RecentKeywordsRes> getRecentKeywords(UserPrincipal userPrincipal) {
@@ -97,14 +141,17 @@ public class NewsService {
 
         // 최근 일주일간 생성한 뉴스 목록 조회
         LocalDateTime createdAt = LocalDateTime.now().minusDays(7);
-        Page<News> recentNews = newsRepository.findRecentNewsByUser(user, createdAt, pageable);
+        // 뉴스와 키워드를 한 번에 조인하여 필요한 컬럼만 조회
+        Page<NewsRow> recentNews = newsRepository.findRecentNewsRowsByUserId(user.getId(), createdAt, pageable);
 
         return recentNews.map(news -> RecentNewsRes.builder()
                 .newsId(news.getNewsId())
                 .newsImageUrl(news.getNewsUrl())
+                .smallThumbnailUrl(news.getThumbnailSmallUrl())
+                .mediumThumbnailUrl(news.getThumbnailMediumUrl())
                 .headLine(news.getHeadLine())
-                .noun(news.getKeyword().getKeyword())
-                .verb(VerbType.getStringVerbType(news.getKeyword().getVerbType()))
+                .noun(news.getNoun())
+                .verb(VerbType.getStringVerbType(news.getVerbType()))
                 .createdAt(news.getCreatedAt())
                 .build());
     }
@@ -113,11 +160,8 @@ public class NewsService {
         User user = validateUser(userPrincipal);
         // User user = userRepository.findById(5L).orElseThrow(UserNotFoundException::new);
 
-        // 사용자가 생성한 모든 뉴스 개수 조회
-        List<Keyword> keywords = user.getKeywords();
-        long totalNewsCount = keywords.stream()
-                .mapToLong(newsRepository::countByKeyword)
-                .sum();
+        // 사용자가 생성한 모든 뉴스 개수 조회 (키워드 목록을 불러오지 않고 한 번에 집계)
+        long totalNewsCount = newsRepository.countByUserId(user.getId());
 
         long newsStatus = totalNewsCount % 6;
 
@@ -136,13 +180,15 @@ public class NewsService {
         // page 적용 및 정렬 추가
         Pageable pageable = PageRequest.of(page, 15);
 
-        Page<News> newsList = newsRepository.findNewsByUserAndCreatedAtBetween(user, start, end, pageable);
+        Page<NewsRow> newsList = newsRepository.findNewsRowsByUserIdAndCreatedAtBetween(user.getId(), start, end, pageable);
 
         return newsList.map(news -> NewsCalendarRes.builder()
                 .newsId(news.getNewsId())
                 .newsImageUrl(news.getNewsUrl())
-                .noun(news.getKeyword().getKeyword())
-                .verb(VerbType.getStringVerbType(news.getKeyword().getVerbType()))
+                .smallThumbnailUrl(news.getThumbnailSmallUrl())
+                .mediumThumbnailUrl(news.getThumbnailMediumUrl())
+                .noun(news.getNoun())
+                .verb(VerbType.getStringVerbType(news.getVerbType()))
                 .createdAt(news.getCreatedAt())
                 .build());
     }
@@ -0,0 +1,56 @@
+package com.movelog.domain.news.application;
+
+import com.movelog.domain.news.domain.event.NewsCreatedEvent;
+import com.movelog.domain.news.domain.repository.NewsRepository;
+import com.movelog.global.util.ThumbnailTarget;
+import com.movelog.global.util.ThumbnailUpdater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class NewsThumbnailUpdater implements ThumbnailTarget {
+
+    private final NewsRepository newsRepository;
+    private final ThumbnailUpdater thumbnailUpdater;
+
+    /**
+     * 뉴스 생성 트랜잭션 커밋 이후 뉴스 이미지 썸네일 생성
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNewsCreated(NewsCreatedEvent event) {
+        if (event.getImageObjectKey() != null) {
+            thumbnailUpdater.submit(this, event.getNewsId(), event.getImageObjectKey());
+        }
+    }
+
+    /**
+     * 이미지가 있지만 썸네일이 없는 뉴스 썸네일 재생성
+     */
+    @Scheduled(fixedDelayString = "${thumbnail.sweep.delay-ms:300000}")
+    public void sweepMissingThumbnails() {
+        thumbnailUpdater.sweep(this);
+    }
+
+    @Override
+    public String folder() {
+        return "news";
+    }
+
+    @Override
+    public List<Object[]> findMissingThumbnails(Long lastId, LocalDateTime createdBefore, Pageable pageable) {
+        return newsRepository.findMissingThumbnails(lastId, createdBefore, pageable);
+    }
+
+    @Override
+    public void updateThumbnails(Long id, String smallUrl, String mediumUrl) {
+        newsRepository.updateThumbnails(id, smallUrl, mediumUrl);
+    }
+}
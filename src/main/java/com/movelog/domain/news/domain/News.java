@@ -22,6 +22,13 @@ public class News extends BaseEntity {
 
     private String newsUrl; //뉴스 URL
 
+    // 뉴스 이미지 썸네일 (긴 변 256px, 768px), 업로드 후 비동기로 채워지며 생성 전에는 null
+    @Column(name = "thumbnail_small_url")
+    private String thumbnailSmallUrl;
+
+    @Column(name = "thumbnail_medium_url")
+    private String thumbnailMediumUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "keyword_id")
     private Keyword keyword;
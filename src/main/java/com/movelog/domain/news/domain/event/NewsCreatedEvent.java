@@ -0,0 +1,20 @@
+package com.movelog.domain.news.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 뉴스 생성 이벤트 (커밋 이후 썸네일 생성용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NewsCreatedEvent {
+
+    private final Long newsId;
+
+    // 뉴스 이미지의 S3 객체 Key
+    private final String imageObjectKey;
+
+}
@@ -1,38 +1,78 @@
 package com.movelog.domain.news.domain.repository;
 
 import com.movelog.domain.news.domain.News;
-import com.movelog.domain.record.domain.Keyword;
-import com.movelog.domain.user.domain.User;
+import com.movelog.domain.news.dto.projection.NewsRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long> {
 
-    @Query("SELECT n FROM News n " +
+    @Query(value = "SELECT n.newsId AS newsId, n.newsUrl AS newsUrl, n.thumbnailSmallUrl AS thumbnailSmallUrl, " +
+            "n.thumbnailMediumUrl AS thumbnailMediumUrl, n.headLine AS headLine, " +
+            "k.keyword AS noun, k.verbType AS verbType, n.createdAt AS createdAt " +
+            "FROM News n " +
             "JOIN n.keyword k " +
-            "WHERE k.user = :user " +
+            "WHERE k.user.id = :userId " +
             "AND n.createdAt > :createdAt " +
-            "ORDER BY n.createdAt DESC")
-    Page<News> findRecentNewsByUser(
-            @Param("user") User user,
+            "ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM News n " +
+                    "JOIN n.keyword k " +
+                    "WHERE k.user.id = :userId " +
+                    "AND n.createdAt > :createdAt")
+    Page<NewsRow> findRecentNewsRowsByUserId(
+            @Param("userId") Long userId,
             @Param("createdAt") LocalDateTime createdAt,
             Pageable pageable
     );
 
-    long countByKeyword(Keyword keyword);
+    // 비동기로 생성된 썸네일 URL 반영
+    @Transactional
+    @Modifying
+    @Query("UPDATE News n SET n.thumbnailSmallUrl = :smallUrl, n.thumbnailMediumUrl = :mediumUrl WHERE n.newsId = :newsId")
+    int updateThumbnails(@Param("newsId") Long newsId, @Param("smallUrl") String smallUrl, @Param("mediumUrl") String mediumUrl);
 
-    @Query("SELECT n FROM News n " +
+    // 이미지가 있지만 썸네일이 없는 뉴스 (썸네일 재생성용, 뉴스 ID 순 keyset)
+    @Query("SELECT n.newsId, n.newsUrl FROM News n " +
+            "WHERE n.newsId > :lastNewsId AND n.newsUrl IS NOT NULL AND n.thumbnailSmallUrl IS NULL " +
+            "AND n.createdAt < :createdBefore ORDER BY n.newsId ASC")
+    List<Object[]> findMissingThumbnails(@Param("lastNewsId") Long lastNewsId,
+                                         @Param("createdBefore") LocalDateTime createdBefore,
+                                         Pageable pageable);
+
+    // 중복 키워드 정리 시 뉴스를 남길 키워드로 옮김
+    @Modifying
+    @Query(value = "UPDATE news SET keyword_id = :keepId WHERE keyword_id = :duplicateId", nativeQuery = true)
+    int moveToKeyword(@Param("duplicateId") Long duplicateId, @Param("keepId") Long keepId);
+
+    // 사용자가 생성한 전체 뉴스 개수 (키워드별로 나누어 세지 않음)
+    @Query("SELECT COUNT(n) FROM News n JOIN n.keyword k WHERE k.user.id = :userId")
+    long countByUserId(@Param("userId") Long userId);
+
+    @Query(value = "SELECT n.newsId AS newsId, n.newsUrl AS newsUrl, n.thumbnailSmallUrl AS thumbnailSmallUrl, " +
+            "n.thumbnailMediumUrl AS thumbnailMediumUrl, n.headLine AS headLine, " +
+            "k.keyword AS noun, k.verbType AS verbType, n.createdAt AS createdAt " +
+            "FROM News n " +
             "JOIN n.keyword k " +
-            "WHERE k.user = :user " +
+            "WHERE k.user.id = :userId " +
             "AND n.createdAt BETWEEN :start AND :end " +
-            "ORDER BY n.createdAt ASC")
-    Page<News> findNewsByUserAndCreatedAtBetween(User user, LocalDateTime start, LocalDateTime end, Pageable pageable);
+            "ORDER BY n.createdAt ASC",
+            countQuery = "SELECT COUNT(n) FROM News n " +
+                    "JOIN n.keyword k " +
+                    "WHERE k.user.id = :userId " +
+                    "AND n.createdAt BETWEEN :start AND :end")
+    Page<NewsRow> findNewsRowsByUserIdAndCreatedAtBetween(@Param("userId") Long userId,
+                                                          @Param("start") LocalDateTime start,
+                                                          @Param("end") LocalDateTime end,
+                                                          Pageable pageable);
 
 }
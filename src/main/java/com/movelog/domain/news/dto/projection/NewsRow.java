@@ -0,0 +1,28 @@
+package com.movelog.domain.news.dto.projection;
+
+import com.movelog.domain.record.domain.VerbType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 목록 행 (뉴스와 키워드를 한 번에 조인하여 필요한 컬럼만 조회)
+ */
+public interface NewsRow {
+
+    Long getNewsId();
+
+    String getNewsUrl();
+
+    String getThumbnailSmallUrl();
+
+    String getThumbnailMediumUrl();
+
+    String getHeadLine();
+
+    String getNoun();
+
+    VerbType getVerbType();
+
+    LocalDateTime getCreatedAt();
+
+}
@@ -15,4 +15,7 @@ public class CreateNewsReq {
     @Schema( type = "String", example ="5년 만의 첫 도전, 무엇이 그를 움직이게 했나?", description="사용자가 선택한/생성한 헤드라인 정보입니다.")
     private String headLine;
 
+    @Schema( type = "String", example ="news/3f1c2a9e-8d7b-4e1a-9c3d-2b6f5e4a1d0c.jpg", description="업로드 URL로 직접 올린 뉴스 이미지의 객체 Key (img 대신 사용, 선택)")
+    private String objectKey;
+
 }
@@ -4,6 +4,8 @@ import com.movelog.domain.news.application.NewsService;
 import com.movelog.domain.news.dto.request.CreateNewsReq;
 import com.movelog.domain.news.dto.request.NewsHeadLineReq;
 import com.movelog.domain.news.dto.response.*;
+import com.movelog.domain.record.dto.request.UploadUrlReq;
+import com.movelog.domain.record.dto.response.UploadUrlRes;
 import com.movelog.global.config.security.token.CurrentUser;
 import com.movelog.global.config.security.token.UserPrincipal;
 import com.movelog.global.payload.Message;
@@ -74,6 +76,23 @@ public class NewsController {
     }
 
 
+    @Operation(summary = "뉴스 이미지 업로드 URL 발급 API", description = "S3에 뉴스 이미지를 직접 업로드할 수 있는 URL을 발급합니다. 업로드 후 뉴스 생성 API에 objectKey를 넘겨주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "업로드 URL 발급 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = UploadUrlRes.class))),
+            @ApiResponse(responseCode = "400", description = "업로드 URL 발급 실패",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/upload-url")
+    public ResponseEntity<?> createUploadUrl(
+            @Parameter(description = "Access Token을 입력해주세요.", required = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "Schemas의 UploadUrlReq를 참고해주세요.", required = true) @RequestBody UploadUrlReq uploadUrlReq
+    ) {
+        UploadUrlRes response = newsService.createUploadUrl(userPrincipal, uploadUrlReq);
+        return ResponseEntity.ok(ApiResponseUtil.success(response));
+    }
+
+
     @Operation(summary = "뉴스 추천 키워드 조회 API", description = "뉴스 생성 시 최근 생성된 5개의 동사-명사 쌍 목록을 조회합니다. ")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "뉴스 추천 기록 조회 성공",
@@ -0,0 +1,180 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.repository.RecordDailyRollupRepository;
+import com.movelog.domain.record.dto.response.AllUserRecordStatsRes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 전체 사용자 기록 통계(AllUserRecordStatsRes) 계산
+ * 사용자와 무관하게 (카테고리, 기간, 월)로 결과가 정해지므로 캐시와 스냅샷 생성에서 함께 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AllUserRecordStatsCalculator {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RecordStatsEngine recordStatsEngine;
+    private final RecordDailyRollupRepository recordDailyRollupRepository;
+    private final CategoryStreakService categoryStreakService;
+    private final TopRecordsRankingService topRecordsRankingService;
+    private final StatsWarmUpService statsWarmUpService;
+
+    /**
+     * 전체 사용자 기록 통계 계산 (월별 조회 및 일간 조회 개선)
+     */
+    public AllUserRecordStatsRes calculate(VerbType verbType, String period, String month) {
+        String category = verbType.getVerbType();
+        LocalDate today = LocalDate.now();
+        String redisKey = RecordStatsKeys.periodKey(verbType, period, today);
+        LocalDate periodStart = RecordStatsKeys.periodStart(period, today);
+
+        // 워밍업(집계 테이블 초기 집계, 연속 기록 재계산, Redis 통계 재구성) 완료 전에는 record 테이블 직접 집계 결과만 사용
+        if (!statsWarmUpService.isReady()) {
+            return calculateFromRecords(verbType, period, month);
+        }
+
+        // 카테고리 전체 기록을 날짜별/키워드별 집계 쿼리로 한 번만 요약
+        RecordStatsSummary summary = recordStatsEngine.summarize(verbType);
+
+        // 총 기록 횟수 조회
+        int totalRecords = getTotalRecords(redisKey, summary, periodStart);
+
+        // 최고 연속 기록 조회 (카테고리 연속 기록 상태, 없으면 집계 결과로 계산)
+        int maxConsecutiveDays = categoryStreakService.getBestStreak(verbType)
+                .orElseGet(summary::getMaxConsecutiveDays);
+
+        // 평균 일간 기록 계산
+        double avgDailyRecord = summary.getAvgDailyRecord();
+
+        // 하루 동안 가장 많이 기록한 횟수 조회
+        int maxDailyRecord = summary.maxDailySince(periodStart);
+
+        // TOP 5 키워드 조회
+        List<Map<String, Object>> topRecords = getTopRecords(verbType, summary);
+
+        // 날짜별 기록 개수 조회 (달력 표시용, 월별인지 확인 후 호출)
+        Map<LocalDate, Integer> dailyRecords = "monthly".equals(period) ?
+                getMonthlyRecords(category, month) :
+                summary.getDailyRecords();
+
+        return AllUserRecordStatsRes.builder()
+                .category(category)
+                .totalRecords(totalRecords)
+                .maxConsecutiveDays(maxConsecutiveDays)
+                .avgDailyRecord(avgDailyRecord)
+                .maxDailyRecord(maxDailyRecord)
+                .topRecords(topRecords)
+                .dailyRecords(dailyRecords)
+                .build();
+    }
+
+
+    /**
+     * record 테이블 직접 집계 결과로만 계산 (워밍업 완료 전)
+     * 집계 테이블, 연속 기록 상태, Redis 통계, 순위 스냅샷은 아직 일부 기록이 빠져 있을 수 있으므로 사용하지 않음
+     */
+    private AllUserRecordStatsRes calculateFromRecords(VerbType verbType, String period, String month) {
+        LocalDate periodStart = RecordStatsKeys.periodStart(period, LocalDate.now());
+        RecordStatsSummary summary = recordStatsEngine.summarizeFromRecords(verbType);
+
+        Map<LocalDate, Integer> dailyRecords = summary.getDailyRecords();
+        if ("monthly".equals(period)) {
+            dailyRecords = parseMonth(month)
+                    .map(yearMonth -> summary.between(yearMonth.atDay(1), yearMonth.atEndOfMonth()))
+                    .orElseGet(LinkedHashMap::new);
+        }
+
+        return AllUserRecordStatsRes.builder()
+                .category(verbType.getVerbType())
+                .totalRecords(summary.countSince(periodStart))
+                .maxConsecutiveDays(summary.getMaxConsecutiveDays())
+                .avgDailyRecord(summary.getAvgDailyRecord())
+                .maxDailyRecord(summary.maxDailySince(periodStart))
+                .topRecords(topRecordsRankingService.toRanking(summary.getTopKeywords(), Map.of()))
+                .dailyRecords(dailyRecords)
+                .build();
+    }
+
+    /**
+     * 총 기록 횟수 조회 (Redis 조회 개선)
+     */
+    private int getTotalRecords(String redisKey, RecordStatsSummary summary, LocalDate periodStart) {
+        Set<TypedTuple<String>> records = redisTemplate.opsForZSet().rangeWithScores(redisKey, 0, -1);
+
+        // Redis에서 데이터가 없을 경우 DB 집계 결과로 계산
+        if (records == null || records.isEmpty()) {
+            log.info("⚠️ Redis is empty for key: {} → Using DB aggregate", redisKey);
+            return summary.countSince(periodStart);
+        }
+
+        // 키워드별 기록 횟수(score)의 합
+        return (int) records.stream()
+                .map(TypedTuple::getScore)
+                .filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue)
+                .sum();
+    }
+
+    /**
+     * TOP 5 키워드 조회 (현재 epoch 순위 스냅샷, 없으면 집계 결과로 계산)
+     */
+    private List<Map<String, Object>> getTopRecords(VerbType verbType, RecordStatsSummary summary) {
+        return topRecordsRankingService.findCurrentRanking(verbType)
+                .orElseGet(() -> topRecordsRankingService.toRanking(summary.getTopKeywords(), Map.of()));
+    }
+
+    private Map<LocalDate, Integer> getMonthlyRecords(String category, String month) {
+        VerbType verbType = VerbType.fromValue(category);
+        Map<LocalDate, Integer> dailyRecordCount = new LinkedHashMap<>();
+
+        Optional<YearMonth> parsedMonth = parseMonth(month);
+        if (parsedMonth.isEmpty()) {
+            return dailyRecordCount;
+        }
+
+        // 월 시작일 & 종료일 설정
+        YearMonth yearMonth = parsedMonth.get();
+        LocalDate startDate = yearMonth.atDay(1); // ex) 2025-02-01
+        LocalDate endDate = yearMonth.atEndOfMonth(); // ex) 2025-02-28
+
+        log.info("🔍 Fetching records for category: [{}] between [{}] and [{}]", category, startDate, endDate);
+
+        // 일별 집계 테이블에서 해당 월의 날짜별 개수만 조회
+        for (Object[] row : recordDailyRollupRepository.sumDailyByVerbTypeBetween(verbType, startDate, endDate)) {
+            dailyRecordCount.put((LocalDate) row[0], ((Number) row[1]).intValue());
+        }
+
+        log.info("Final Monthly Records: {}", dailyRecordCount);
+
+        return dailyRecordCount;
+    }
+
+    private Optional<YearMonth> parseMonth(String month) {
+        if (month == null || month.isBlank()) {
+            log.info("⚠️ Invalid month input: [{}]", month);
+            return Optional.empty();
+        }
+
+        // month 값 정리: 공백 제거 + 숫자와 '-'만 유지
+        String normalized = month.trim().replaceAll("[^0-9-]", "");
+        return Optional.of(YearMonth.parse(normalized, DateTimeFormatter.ofPattern("yyyy-MM")));
+    }
+}
@@ -0,0 +1,99 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.CategoryStreak;
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.event.UserRecordsDeletedEvent;
+import com.movelog.domain.record.domain.repository.CategoryStreakRepository;
+import com.movelog.domain.record.domain.repository.RecordDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CategoryStreakService {
+
+    private static final String REBUILD_KEY = "stats:backfill:category_streak";
+
+    private final CategoryStreakRepository categoryStreakRepository;
+    private final RecordDailyRollupRepository recordDailyRollupRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 기록 날짜 반영 (기록 생성 트랜잭션에 참여)
+     * 카테고리에서 처음 보는 날짜일 때만 행을 갱신 (행이 없으면 생성하는 upsert 한 문장)
+     */
+    @Transactional
+    public void record(VerbType verbType, LocalDate date) {
+        Optional<LocalDate> lastActiveDate = categoryStreakRepository.findLastActiveDate(verbType);
+        if (lastActiveDate.isPresent() && !date.isAfter(lastActiveDate.get())) {
+            return;
+        }
+
+        categoryStreakRepository.record(verbType.name(), date);
+    }
+
+    /**
+     * 카테고리의 최고 연속 기록 일수 (상태가 없으면 empty)
+     */
+    public Optional<Integer> getBestStreak(VerbType verbType) {
+        return categoryStreakRepository.findBestStreak(verbType);
+    }
+
+    /**
+     * 재계산을 완료한 적 없으면 일별 집계 테이블로 재계산
+     * 집계 테이블 초기 집계 이후에 실행해야 하며, 테이블 상태가 아닌 완료 표시로 판단
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIfMissing() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(REBUILD_KEY))) {
+            return;
+        }
+        rebuildAll();
+        redisTemplate.opsForValue().set(REBUILD_KEY, "1");
+    }
+
+    /**
+     * 회원 탈퇴 커밋 이후 (일별 집계가 차감된 상태) 사라진 날짜가 반영되도록 재계산
+     * 재계산을 완료한 적 없으면 워밍업에서 재계산하므로 건너뜀
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onUserRecordsDeleted(UserRecordsDeletedEvent event) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(REBUILD_KEY))) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * 카테고리별 기록 날짜 목록으로 연속 기록 상태 재계산 (카테고리마다 커밋)
+     * 카테고리 행을 잠근 뒤 날짜를 읽으므로, 동시에 생성되는 기록은 커밋까지 대기한 뒤 재계산된 상태에 이어서 반영됨
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildAll() {
+        for (VerbType verbType : VerbType.values()) {
+            CategoryStreak categoryStreak = transactionTemplate.execute(status -> {
+                categoryStreakRepository.insertIfMissing(verbType.name());
+                CategoryStreak locked = categoryStreakRepository.findForUpdate(verbType)
+                        .orElseThrow(() -> new IllegalStateException("category_streak 행이 없습니다: " + verbType));
+                List<LocalDate> activeDates = recordDailyRollupRepository.findActiveDatesByVerbType(verbType);
+                locked.rebuild(activeDates);
+                return categoryStreakRepository.save(locked);
+            });
+            log.info("✅ category_streak 재계산 완료: {} → 최고 {}일", verbType.getVerbType(), categoryStreak.getStreak().getBestStreak());
+        }
+    }
+}
@@ -1,110 +1,231 @@
 package com.movelog.domain.record.application;
 
 
-import com.movelog.domain.record.domain.Record;
-import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.dto.projection.RecordStatsRow;
 import com.movelog.domain.record.domain.repository.RecordRepository;
-import jakarta.annotation.PostConstruct;
-import jakarta.transaction.Transactional;
+import com.movelog.global.lock.Lease;
+import com.movelog.global.lock.RedisLockManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 기록 데이터로 기간별 통계 ZSET 재구성
+ * 기록을 keyset 페이지 단위로 읽어 청크별로 집계한 뒤 shadow Key에 파이프라인으로 쓰고,
+ * 완료되면 한 번에 RENAME하여 교체 (날짜별 사용자 HyperLogLog와 활동 비트맵도 같은 청크에서 채움)
+ * 재구성 중 생성된 기록은 RecordStatsUpdater가 shadow Key에도 반영하므로 교체 시점까지의 기록이 유실되지 않음
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DataMigrationService {
 
+    // Key 구조가 바뀌면 올려서 다음 실행 시 재구성되도록 함
+    static final String STATS_VERSION = "4";
+    static final String VERSION_KEY = "stats:rebuild:version";
+    private static final int CHUNK_SIZE = 5000;
+    // 재구성이 중단되어도 기록 생성 시 shadow Key 반영이 계속되지 않도록 청크마다 연장하는 TTL
+    private static final Duration WATERMARK_TTL = Duration.ofMinutes(10);
+    // watermark 이하 ID로 INSERT되었지만 아직 커밋되지 않은 기록이 커밋될 때까지 기다리는 시간
+    private static final long COMMIT_GRACE_MILLIS = 5_000L;
+
     private final RecordRepository recordRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockManager redisLockManager;
 
     /**
-     * 애플리케이션 실행 시 기존 데이터를 Redis로 마이그레이션
+     * 통계 버전이 다르면 재구성
+     * 한 번 재구성된 이후에는 기록 생성 시 갱신(RecordStatsUpdater)으로 유지되므로 다시 실행하지 않음
      */
-    @PostConstruct
-    @Transactional
-    public void migrateDataToRedis() {
-        log.info("🔄 Redis 데이터 마이그레이션 시작...");
-
-        List<Record> records = recordRepository.findAllWithKeyword();
-
-        // 기존 순위 데이터 확인 (TOP 5 키워드 저장)
-        for (VerbType verbType : VerbType.values()) {
-            String category = verbType.getVerbType();
-            String redisKey = "top_records_" + category;
-
-            // Redis에 기존 순위가 없으면 초기화
-            Boolean exists = redisTemplate.hasKey(redisKey);
-            if (Boolean.FALSE.equals(exists)) {
-                initializePreviousRankings(category, records);
-            }
+    public void migrateDataToRedis(Lease lease) {
+        if (STATS_VERSION.equals(redisTemplate.opsForValue().get(VERSION_KEY))) {
+            log.info("Redis 통계가 최신 버전({})이므로 재구성을 건너뜀", STATS_VERSION);
+            return;
         }
+        rebuild(lease);
+    }
 
-        // 전체 기록을 Redis에 저장
-        for (Record record : records) {
-            if (record.getKeyword() == null) continue;
+    /**
+     * 기간별 통계 ZSET 전체 재구성
+     * 1. 현재 최대 기록 ID를 watermark로 저장 → 이후 ID의 기록은 생성 시 shadow Key에도 반영됨
+     * 2. watermark 이하 기록을 모두 shadow Key에 반영 (IDENTITY ID가 커밋 순서와 다를 수 있으므로 잠시 기다린 뒤 읽음)
+     * 3. watermark 이후 기록 중 아직 shadow Key에 반영되지 않은 기록을 반영 (SADD로 선점하여 기록 생성 쪽과 중복 방지)
+     * 4. RENAME, 오래된 Key 삭제, watermark 해제를 MULTI/EXEC로 한 번에 실행 (여전히 락을 보유한 경우에만)
+     * 재구성 도중 락을 잃었다면 (다른 인스턴스가 재구성 중) 교체하지 않고 중단하며,
+     * shadow Key와 watermark는 새 보유자가 사용 중이므로 정리하지 않음
+     */
+    public void rebuild(Lease lease) {
+        log.info("🔄 Redis 통계 재구성 시작...");
 
-            String action = record.getKeyword().getKeyword(); // 키워드 (명사)
-            LocalDate date = record.getActionTime().toLocalDate(); // 날짜
-            VerbType verbType = record.getKeyword().getVerbType(); // 동사 유형
+        // 이전에 중단된 재구성 정리
+        redisTemplate.delete(List.of(RecordStatsKeys.REBUILD_WATERMARK_KEY, RecordStatsKeys.REBUILD_APPLIED_KEY));
+        deleteKeys(RecordStatsKeys.SHADOW_PREFIX);
 
-            if (verbType == null) continue; // Null 체크
+        long watermark = recordRepository.findMaxRecordId().orElse(0L);
+        redisTemplate.opsForValue().set(RecordStatsKeys.REBUILD_WATERMARK_KEY, String.valueOf(watermark), WATERMARK_TTL);
+        awaitPendingCommits();
 
-            // Redis 키 설정 (날짜별, 전체 통계)
-            String dailyKey = "stats:daily:" + verbType.getVerbType() + ":" + date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            String totalKey = "stats:total:" + verbType.getVerbType();
+        long processed = copyRange(0L, watermark, false);
+        long latestRecordId = recordRepository.findMaxRecordId().orElse(0L);
+        processed += copyRange(watermark, latestRecordId, true);
 
-            // Redis에 데이터 저장 (ZSet 사용: 키워드별 카운트 증가)
-            redisTemplate.opsForZSet().incrementScore(dailyKey, action, 1);
-            redisTemplate.opsForZSet().incrementScore(totalKey, action, 1);
+        int swapped = swapIn(lease);
+        if (swapped < 0) {
+            throw new IllegalStateException("Redis 통계 재구성 중 락을 잃어 교체를 중단함: fencingToken=" + lease.getFencingToken());
         }
 
-        log.info("✅ Redis 데이터 마이그레이션 완료! 저장된 데이터 개수: {}", records.size());
+        log.info("✅ Redis 통계 재구성 완료! 반영된 기록 개수: {}, Key 개수: {}", processed, swapped);
     }
 
-    /**
-     * 이전 순위 데이터를 초기화하고 Redis에 저장
-     */
-    private void initializePreviousRankings(String category, List<Record> records) {
-        log.info("⚠️ Redis에 기존 순위 데이터가 없음. 초기화 진행: {}", category);
-
-        Map<String, Integer> keywordCounts = new HashMap<>();
+    private void awaitPendingCommits() {
+        try {
+            Thread.sleep(COMMIT_GRACE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Redis 통계 재구성 대기 중 중단됨", e);
+        }
+    }
 
-        // 해당 카테고리의 데이터를 수집하여 개수 카운트
-        for (Record record : records) {
-            if (record.getKeyword() != null && record.getKeyword().getVerbType().getVerbType().equals(category)) {
-                String keyword = record.getKeyword().getKeyword();
-                keywordCounts.put(keyword, keywordCounts.getOrDefault(keyword, 0) + 1);
+    // (lastRecordId, maxRecordId] 구간의 기록을 청크 단위로 집계하여 shadow Key에 반영
+    // deduplicate이면 기록 생성 쪽에서 이미 shadow Key에 반영한 기록은 건너뜀
+    private long copyRange(long lastRecordId, long maxRecordId, boolean deduplicate) {
+        long processed = 0;
+
+        while (lastRecordId < maxRecordId) {
+            List<RecordStatsRow> rows = recordRepository.findStatsRowsAfter(lastRecordId, maxRecordId, PageRequest.of(0, CHUNK_SIZE));
+            if (rows.isEmpty()) break;
+            redisTemplate.expire(RecordStatsKeys.REBUILD_WATERMARK_KEY, WATERMARK_TTL);
+
+            List<Boolean> claimed = deduplicate ? claim(rows) : null;
+
+            // Key → (명사 → 기록 수), HyperLogLog Key → 사용자 ID, 활동 비트맵 Key → 사용자 ID
+            Map<String, Map<String, Long>> chunk = new HashMap<>();
+            Map<String, Set<String>> users = new HashMap<>();
+            Map<String, Set<Long>> activities = new HashMap<>();
+            for (int i = 0; i < rows.size(); i++) {
+                RecordStatsRow row = rows.get(i);
+                if (row.getVerbType() == null) continue;
+
+                LocalDate actionDate = row.getActionTime().toLocalDate();
+                if (claimed == null || claimed.get(i)) {
+                    for (String key : RecordStatsKeys.periodKeys(row.getVerbType(), actionDate)) {
+                        chunk.computeIfAbsent(key, k -> new HashMap<>()).merge(row.getNoun(), 1L, Long::sum);
+                    }
+                }
+                for (String key : RecordStatsKeys.userKeys(row.getVerbType(), row.getNoun(), actionDate)) {
+                    users.computeIfAbsent(key, k -> new HashSet<>()).add(String.valueOf(row.getUserId()));
+                }
+                activities.computeIfAbsent(RecordStatsKeys.activityKey(actionDate), k -> new HashSet<>()).add(row.getUserId());
             }
+
+            writeChunk(chunk);
+            writeUsers(users, activities);
+            processed += rows.size();
+            lastRecordId = rows.get(rows.size() - 1).getRecordId();
+            log.info("Redis 통계 재구성 진행 중... 기록 ID {}까지 반영", lastRecordId);
         }
+        return processed;
+    }
 
-        // TOP 5 키워드 정렬
-        List<Map.Entry<String, Integer>> sortedEntries = keywordCounts.entrySet().stream()
-                .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-                .limit(5)
-                .collect(Collectors.toList());
-
-        // Redis에 저장할 순위 데이터 생성
-        Map<String, String> initialRankings = new LinkedHashMap<>();
-        int rank = 1;
-        for (Map.Entry<String, Integer> entry : sortedEntries) {
-            initialRankings.put(entry.getKey(), String.valueOf(rank++)); // 🚀 Integer → String 변환 후 저장
+    // 기록 ID를 반영 목록에 SADD하여, 처음 추가된 (기록 생성 쪽에서 아직 반영하지 않은) 기록만 true
+    private List<Boolean> claim(List<RecordStatsRow> rows) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (RecordStatsRow row : rows) {
+                    ops.opsForSet().add(RecordStatsKeys.REBUILD_APPLIED_KEY, String.valueOf(row.getRecordId()));
+                }
+                return null;
+            }
+        });
+        return results.stream()
+                .map(result -> result instanceof Long added && added == 1L)
+                .toList();
+    }
+
+    private void writeChunk(Map<String, Map<String, Long>> chunk) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                chunk.forEach((key, counts) -> counts.forEach((noun, count) ->
+                        ops.opsForZSet().incrementScore(RecordStatsKeys.shadowKey(key), noun, count)));
+                return null;
+            }
+        });
+    }
+
+    // PFADD, SETBIT은 같은 사용자를 다시 더해도 결과가 같으므로 shadow Key 없이 바로 반영
+    private void writeUsers(Map<String, Set<String>> users, Map<String, Set<Long>> activities) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                users.forEach((key, userIds) -> ops.opsForHyperLogLog().add(key, userIds.toArray(String[]::new)));
+                activities.forEach((key, userIds) -> userIds.forEach(userId -> ops.opsForValue().setBit(key, userId, true)));
+                return null;
+            }
+        });
+    }
+
+    // shadow Key를 실제 Key로 교체하고, 재구성 결과에 없는 기존 통계 Key 삭제, watermark 해제, 버전 기록을 한 번에 실행
+    // shadow Key는 재구성 중 기록 생성으로 새로 만들어진 Key까지 포함하도록 다시 조회, 교체된 Key 개수 반환 (락을 잃었으면 -1)
+    // 실제 Key를 먼저 조회하여, 두 조회 사이에 새로 생긴 Key가 오래된 Key로 삭제되지 않도록 함
+    private int swapIn(Lease lease) {
+        List<String> liveKeys = new ArrayList<>();
+        for (String prefix : List.of(RecordStatsKeys.DAILY_PREFIX, RecordStatsKeys.WEEKLY_PREFIX,
+                RecordStatsKeys.MONTHLY_PREFIX, RecordStatsKeys.TOTAL_PREFIX)) {
+            scanKeys(prefix, liveKeys::add);
         }
 
-        // Redis에 저장
-        String redisKey = "top_records_" + category;
-        redisTemplate.opsForHash().putAll(redisKey, initialRankings);
-        log.info("✅ 초기 순위 저장 완료: {} → {}", redisKey, initialRankings);
+        Set<String> rebuiltKeys = new HashSet<>();
+        scanKeys(RecordStatsKeys.SHADOW_PREFIX, key -> rebuiltKeys.add(key.substring(RecordStatsKeys.SHADOW_PREFIX.length())));
+        List<String> staleKeys = liveKeys.stream()
+                .filter(key -> !rebuiltKeys.contains(key))
+                .toList();
+
+        boolean swapped = redisLockManager.executeIfHeld(lease, ops -> {
+            for (String key : rebuiltKeys) {
+                ops.rename(RecordStatsKeys.shadowKey(key), key);
+            }
+            if (!staleKeys.isEmpty()) {
+                ops.delete(staleKeys);
+            }
+            ops.delete(List.of(RecordStatsKeys.REBUILD_WATERMARK_KEY, RecordStatsKeys.REBUILD_APPLIED_KEY));
+            ops.opsForValue().set(VERSION_KEY, STATS_VERSION);
+        });
+        return swapped ? rebuiltKeys.size() : -1;
     }
 
+    private void deleteKeys(String prefix) {
+        scanKeys(prefix, redisTemplate::delete);
+    }
 
+    private void scanKeys(String prefix, Consumer<String> action) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(action);
+        }
+    }
 
 }
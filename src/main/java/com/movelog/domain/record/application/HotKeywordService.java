@@ -0,0 +1,230 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.event.RecordCreatedEvent;
+import com.movelog.domain.record.dto.response.HotKeywordRes;
+import com.movelog.domain.record.dto.response.RisingKeywordRes;
+import com.movelog.global.DefaultAssert;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 최근 많이 기록된(hot) 키워드와 급상승(rising) 키워드
+ * 인스턴스마다 카테고리별 1시간 버킷에 Space-Saving으로 상위 키워드만 세고,
+ * 주기적으로 늘어난 횟수를 Redis Hash(hot:{카테고리}:{yyyyMMddHH})에 더하여 인스턴스 간 합산
+ * 조회는 기간 내 시간별 Hash만 읽으므로 기록 원본을 스캔하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotKeywordService {
+
+    private static final String HOT_PREFIX = "hot:";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    // 시간 버킷당 추적하는 키워드 수
+    private static final int BUCKET_CAPACITY = 200;
+    public static final int MAX_WINDOW_HOURS = 72;
+    public static final int MAX_LIMIT = BUCKET_CAPACITY;
+    // 급상승 비교를 위해 조회 기간의 두 배만큼 보관
+    private static final Duration BUCKET_TTL = Duration.ofHours(MAX_WINDOW_HOURS * 2L + 1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 카테고리 → (시간 → 상위 키워드 카운터)
+    private final Map<VerbType, TreeMap<LocalDateTime, SpaceSaving>> buckets = new EnumMap<>(VerbType.class);
+
+    // flush에서 횟수를 꺼낸 버킷 (Redis 반영에 실패하면 되돌리기 위해 보관)
+    private record DrainedBucket(VerbType verbType, LocalDateTime hour, SpaceSaving counter) {}
+
+    /**
+     * 기록 생성 커밋 이후 해당 시간 버킷에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordCreated(RecordCreatedEvent event) {
+        if (event.getVerbType() == null) return;
+
+        LocalDateTime hour = event.getActionTime().truncatedTo(ChronoUnit.HOURS);
+        synchronized (buckets) {
+            buckets.computeIfAbsent(event.getVerbType(), verbType -> new TreeMap<>())
+                    .computeIfAbsent(hour, h -> new SpaceSaving(BUCKET_CAPACITY))
+                    .offer(event.getNoun());
+        }
+    }
+
+    /**
+     * 1분마다 늘어난 횟수를 Redis에 반영하고, 지난 시간 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${stats.hot.flush-interval-ms:60000}")
+    public void flush() {
+        Map<String, Map<String, Long>> deltas = new HashMap<>();
+        Map<String, DrainedBucket> drainedBuckets = new HashMap<>();
+        LocalDateTime previousHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+
+        synchronized (buckets) {
+            buckets.forEach((verbType, hours) -> {
+                Iterator<Map.Entry<LocalDateTime, SpaceSaving>> iterator = hours.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<LocalDateTime, SpaceSaving> entry = iterator.next();
+                    Map<String, Long> drained = entry.getValue().drainDeltas();
+                    if (!drained.isEmpty()) {
+                        String key = hourKey(verbType, entry.getKey());
+                        deltas.put(key, drained);
+                        drainedBuckets.put(key, new DrainedBucket(verbType, entry.getKey(), entry.getValue()));
+                    }
+                    // 늦게 커밋된 기록을 위해 직전 시간까지는 유지
+                    if (entry.getKey().isBefore(previousHour)) {
+                        iterator.remove();
+                    }
+                }
+            });
+        }
+
+        if (deltas.isEmpty()) return;
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    deltas.forEach((key, counts) -> {
+                        counts.forEach((noun, delta) -> ops.opsForHash().increment(key, noun, delta));
+                        ops.expire(key, BUCKET_TTL);
+                    });
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // 꺼낸 횟수를 버킷에 되돌려 다음 flush에서 다시 반영 (이미 정리된 지난 버킷도 다시 넣음)
+            log.error("Failed to flush hot keywords, retrying next flush: {}", e.getMessage());
+            synchronized (buckets) {
+                drainedBuckets.forEach((key, drained) -> buckets
+                        .computeIfAbsent(drained.verbType(), verbType -> new TreeMap<>())
+                        .computeIfAbsent(drained.hour(), hour -> drained.counter())
+                        .restoreDeltas(deltas.get(key)));
+            }
+        }
+    }
+
+    /**
+     * 종료 시 아직 반영하지 않은 횟수를 Redis에 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 최근 hours시간 동안 가장 많이 기록된 키워드
+     */
+    public List<HotKeywordRes> getHotKeywords(String category, int hours, int limit) {
+        validateLimit(limit);
+        VerbType verbType = VerbType.fromValue(category);
+        int window = clampHours(hours);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+        return sortByCount(sumHours(verbType, now, window)).stream()
+                .limit(limit)
+                .map(entry -> HotKeywordRes.builder()
+                        .keyword(entry.getKey())
+                        .count(entry.getValue())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 최근 hours시간의 기록 수가 그 직전 hours시간보다 많이 늘어난 키워드
+     */
+    public List<RisingKeywordRes> getRisingKeywords(String category, int hours, int limit) {
+        validateLimit(limit);
+        VerbType verbType = VerbType.fromValue(category);
+        int window = clampHours(hours);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+        Map<String, Long> recent = sumHours(verbType, now, window);
+        Map<String, Long> previous = sumHours(verbType, now.minusHours(window), window);
+
+        return recent.entrySet().stream()
+                .map(entry -> {
+                    long previousCount = previous.getOrDefault(entry.getKey(), 0L);
+                    return RisingKeywordRes.builder()
+                            .keyword(entry.getKey())
+                            .count(entry.getValue())
+                            .previousCount(previousCount)
+                            .growth(entry.getValue() - previousCount)
+                            .build();
+                })
+                .filter(res -> res.getGrowth() > 0)
+                .sorted(Comparator.comparingLong(RisingKeywordRes::getGrowth).reversed()
+                        .thenComparing(Comparator.comparingLong(RisingKeywordRes::getCount).reversed()))
+                .limit(limit)
+                .toList();
+    }
+
+    // until 시간부터 과거 hours개 시간 버킷의 키워드별 합계
+    private Map<String, Long> sumHours(VerbType verbType, LocalDateTime until, int hours) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < hours; i++) {
+            keys.add(hourKey(verbType, until.minusHours(i)));
+        }
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                keys.forEach(key -> ops.opsForHash().entries(key));
+                return null;
+            }
+        });
+
+        Map<String, Long> sums = new HashMap<>();
+        for (Object result : results) {
+            if (result instanceof Map<?, ?> counts) {
+                counts.forEach((noun, count) -> sums.merge(String.valueOf(noun), Long.parseLong(String.valueOf(count)), Long::sum));
+            }
+        }
+        return sums;
+    }
+
+    private List<Map.Entry<String, Long>> sortByCount(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .toList();
+    }
+
+    private void validateLimit(int limit) {
+        DefaultAssert.isTrue(limit >= 1 && limit <= MAX_LIMIT, "limit은 1~" + MAX_LIMIT + " 사이여야 합니다.");
+    }
+
+    private int clampHours(int hours) {
+        return Math.max(1, Math.min(hours, MAX_WINDOW_HOURS));
+    }
+
+    private String hourKey(VerbType verbType, LocalDateTime hour) {
+        return HOT_PREFIX + verbType.getVerbType() + ":" + hour.format(HOUR_FORMAT);
+    }
+}
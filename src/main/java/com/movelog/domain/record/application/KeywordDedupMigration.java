@@ -0,0 +1,112 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.news.domain.repository.NewsRepository;
+import com.movelog.domain.record.domain.Keyword;
+import com.movelog.domain.record.domain.repository.KeywordRepository;
+import com.movelog.domain.record.domain.repository.KeywordStreakRepository;
+import com.movelog.domain.record.domain.repository.RecordRepository;
+import com.movelog.global.lock.Lease;
+import com.movelog.global.lock.RedisLockManager;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 키워드 (사용자, 명사, 카테고리) 유니크 제약 적용
+ * 제약 이전에 생긴 중복 키워드는 가장 작은 ID로 합치고 (기록, 뉴스를 옮기고 연속 기록은 다음 워밍업에서 재계산) 제약을 추가
+ * 키워드 생성(ON DUPLICATE KEY)이 제약에 의존하므로, 제약을 확인하지 못하면 애플리케이션 시작을 중단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordDedupMigration {
+
+    private static final String MIGRATION_LOCK = "schema:keyword-dedup";
+    private static final Duration MIGRATION_LOCK_TTL = Duration.ofMinutes(5);
+    // 다른 인스턴스가 마이그레이션 중일 때 다시 확인하는 간격과 최대 대기 시간
+    private static final long LOCK_WAIT_MILLIS = 5_000L;
+    private static final Duration MAX_WAIT = Duration.ofMinutes(10);
+    // 정리 중 이전 버전 인스턴스가 중복을 다시 만들면 제약 추가가 실패하므로 몇 번 더 시도
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final KeywordRepository keywordRepository;
+    private final RecordRepository recordRepository;
+    private final NewsRepository newsRepository;
+    private final KeywordStreakRepository keywordStreakRepository;
+    private final KeywordStreakService keywordStreakService;
+    private final RedisLockManager redisLockManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        long deadline = System.currentTimeMillis() + MAX_WAIT.toMillis();
+        int attempts = 0;
+        while (!hasUniqueConstraint()) {
+            if (attempts >= MAX_ATTEMPTS || System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("keyword 테이블에 유니크 제약(" + Keyword.UNIQUE_CONSTRAINT + ")을 적용하지 못했습니다.");
+            }
+
+            Optional<Lease> acquired = redisLockManager.tryAcquire(MIGRATION_LOCK, MIGRATION_LOCK_TTL);
+            if (acquired.isEmpty()) {
+                log.info("다른 인스턴스가 중복 키워드 정리 중이므로 대기");
+                sleep();
+                continue;
+            }
+
+            attempts++;
+            try (Lease lease = acquired.get()) {
+                if (!hasUniqueConstraint()) {
+                    mergeDuplicates();
+                    transactionTemplate.executeWithoutResult(status -> keywordRepository.addUniqueConstraint());
+                    log.info("✅ keyword 유니크 제약 추가 완료!");
+                }
+            } catch (DataAccessException e) {
+                log.error("중복 키워드 정리 실패 (시도 {}/{}): {}", attempts, MAX_ATTEMPTS, e.getMessage());
+            }
+        }
+    }
+
+    private boolean hasUniqueConstraint() {
+        return keywordRepository.countUniqueConstraints() > 0;
+    }
+
+    // 중복 키워드마다 한 트랜잭션에서 기록, 뉴스를 옮기고 연속 기록과 키워드를 삭제
+    private void mergeDuplicates() {
+        List<Object[]> duplicates = keywordRepository.findDuplicateKeywordIds();
+        if (duplicates.isEmpty()) {
+            return;
+        }
+
+        log.info("🔄 중복 키워드 정리 시작... 중복 개수: {}", duplicates.size());
+        for (Object[] row : duplicates) {
+            Long duplicateId = ((Number) row[0]).longValue();
+            Long keepId = ((Number) row[1]).longValue();
+            transactionTemplate.executeWithoutResult(status -> {
+                recordRepository.moveToKeyword(duplicateId, keepId);
+                newsRepository.moveToKeyword(duplicateId, keepId);
+                keywordStreakRepository.deleteAllByIdInBatch(List.of(duplicateId));
+                keywordRepository.deleteAllByIdInBatch(List.of(duplicateId));
+            });
+        }
+
+        // 남긴 키워드의 연속 기록에 옮긴 기록이 반영되지 않았으므로 전체 재계산
+        keywordStreakService.requestRebuild();
+        log.info("✅ 중복 키워드 정리 완료! 합친 키워드 개수: {}", duplicates.size());
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(LOCK_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("중복 키워드 정리 대기 중 중단됨", e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.user.domain.event.UserDeletedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 (명사, 카테고리) → keywordId 캐시
+ * 기록 생성 시 키워드 조회/생성 쿼리를 생략하기 위해 사용 (키워드는 생성 후 바뀌지 않음)
+ * 사용자 수와 사용자별 키워드 수를 모두 제한하며, 오래 쓰지 않은 항목부터 제거 (LRU)
+ */
+@Component
+public class KeywordIdCache {
+
+    private static final int MAX_USERS = 2_000;
+    private static final int MAX_KEYWORDS_PER_USER = 64;
+
+    private record KeywordKey(VerbType verbType, String noun) {}
+
+    private final Map<Long, Map<KeywordKey, Long>> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Map<KeywordKey, Long>> eldest) {
+            return size() > MAX_USERS;
+        }
+    };
+
+    public synchronized Optional<Long> get(Long userId, VerbType verbType, String noun) {
+        Map<KeywordKey, Long> keywords = cache.get(userId);
+        if (keywords == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(keywords.get(new KeywordKey(verbType, noun)));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 저장 (롤백되어 생성되지 않은 키워드 ID가 남지 않도록 함)
+     */
+    public void putAfterCommit(Long userId, VerbType verbType, String noun, Long keywordId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(userId, verbType, noun, keywordId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(userId, verbType, noun, keywordId);
+            }
+        });
+    }
+
+    /**
+     * 사용자 삭제 커밋 이후 해당 사용자의 키워드 ID 제거 (삭제된 키워드를 참조하지 않도록 함)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onUserDeleted(UserDeletedEvent event) {
+        cache.remove(event.getUserId());
+    }
+
+    private synchronized void put(Long userId, VerbType verbType, String noun, Long keywordId) {
+        cache.computeIfAbsent(userId, id -> new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<KeywordKey, Long> eldest) {
+                return size() > MAX_KEYWORDS_PER_USER;
+            }
+        }).put(new KeywordKey(verbType, noun), keywordId);
+    }
+}
@@ -2,7 +2,9 @@ package com.movelog.domain.record.application;
 
 import com.movelog.domain.record.domain.Keyword;
 import com.movelog.domain.record.domain.Record;
+import com.movelog.domain.record.domain.repository.RecordDailyRollupRepository;
 import com.movelog.domain.record.domain.repository.RecordRepository;
+import com.movelog.domain.record.dto.projection.KeywordRecordSummary;
 import com.movelog.domain.record.dto.response.AllUserKeywordStatsRes;
 import com.movelog.domain.record.dto.response.MyKeywordStatsRes;
 import com.movelog.domain.record.dto.response.RecommendKeywordInStatsRes;
@@ -33,6 +35,8 @@ public class KeywordService {
     private final UserRepository userRepository;
     private final KeywordRepository keywordRepository;
     private final RecordRepository recordRepository;
+    private final RecordDailyRollupRepository recordDailyRollupRepository;
+    private final RecordDailyRollupService recordDailyRollupService;
 
     public List<SearchKeywordInStatsRes> searchKeywordInStats(UserPrincipal userPrincipal, String keyword) {
         validUserById(userPrincipal);
@@ -92,7 +96,10 @@ public class KeywordService {
 
     // 키워드의 일일 평균 기록 수를 반환 (다중 keywordId 지원)
     public double calculateAverageDailyRecordsByKeywordIds(List<Long> keywordIds) {
-        List<Object[]> results = keywordRepository.calculateAvgDailyRecordsByKeywordIds(keywordIds);
+        // action_date가 채워지기 전에는 비어 있는 기존 기록이 한 날짜로 묶이므로 기록 시간으로 묶음
+        List<Object[]> results = recordDailyRollupService.isRecordColumnsFilled()
+                ? keywordRepository.calculateAvgDailyRecordsByKeywordIds(keywordIds)
+                : keywordRepository.calculateAvgDailyRecordsByKeywordIdsOnActionTime(keywordIds);
 
         long totalRecords = results.stream().mapToLong(row -> (Long) row[0]).sum();
         long days = results.size();
@@ -130,7 +137,9 @@ public class KeywordService {
 
     // 키워드의 일일 평균 기록 수를 반환
     public double calculateAverageDailyRecordsByKeywordId(Long keywordId) {
-        List<Object[]> results = recordRepository.findKeywordRecordCountsByDate(keywordId);
+        List<Object[]> results = recordDailyRollupService.isRecordColumnsFilled()
+                ? recordRepository.findKeywordRecordCountsByDate(keywordId)
+                : recordRepository.findKeywordRecordCountsByActionTimeDate(keywordId);
 
         // 총 기록 수와 기록된 날짜 수 계산
         long totalRecords = results.stream()
@@ -183,41 +192,30 @@ public class KeywordService {
     // 전체 사용자의 특정 키워드 통계 조회
     public AllUserKeywordStatsRes getAllUserKeywordStats(UserPrincipal userPrincipal, String keyword) {
         validUserById(userPrincipal);
-        // 해당 키워드에 대한 전체 사용자의 기록 목록
-        List<Record> records = recordRepository.findAllByKeyword(keyword);
+        // 해당 키워드에 대한 전체 사용자의 기록 수, 마지막 기록 시간, 최근 7일간 기록 수 (기록 엔티티를 불러오지 않음)
+        KeywordRecordSummary summary = recordRepository.summarizeByNoun(keyword, LocalDateTime.now().minusDays(7));
 
         return AllUserKeywordStatsRes.builder()
                 .noun(keyword)
-                .count(records.size())
-                .lastRecordedAt(getLastRecordedAtByRecords(records))
+                .count(summary.getRecordCount() == null ? 0 : summary.getRecordCount().intValue())
+                .lastRecordedAt(summary.getLastRecordedAt())
                 .avgDailyRecord(calculateAverageDailyRecordsByRecords(keyword))
-                .avgWeeklyRecord(getAvgWeeklyRecordByRecords(records))
+                .avgWeeklyRecord(getAvgWeeklyRecordByRecentCount(summary.getRecentCount()))
                 .build();
     }
 
-    // 키워드의 마지막 기록 시간을 반환
-    private LocalDateTime getLastRecordedAtByRecords(List<Record> records) {
-        return records.stream()
-                .map(Record::getActionTime)
-                .max(LocalDateTime::compareTo)
-                .orElse(null);
-    }
-
     // 키워드의 일일 평균 기록 수를 반환
     private double calculateAverageDailyRecordsByRecords(String keyword) {
-        /// 날짜별 기록 수 계산
-        List<Object[]> results = recordRepository.findRecordCountsByKeywordGroupedByDate(keyword);
+        /// 날짜별 기록 수 계산 (일별 집계 테이블 기준)
+        List<Object[]> results = recordDailyRollupRepository.sumDailyByKeyword(keyword);
 
         // 총 기록 수 계산
         long totalRecords = results.stream()
-                .mapToLong(row -> ((Long) row[1]))  // COUNT(r)
+                .mapToLong(row -> ((Number) row[1]).longValue())  // SUM(recordCount)
                 .sum();
 
-        // 기록된 날짜 수 계산
-        long days = results.stream()
-                .map(row -> (java.sql.Date) row[0])  // DATE(r.actionTime)
-                .distinct()
-                .count();
+        // 기록된 날짜 수 계산 (날짜별로 그룹화된 행 수)
+        long days = results.size();
 
         // 일일 평균 계산
         double result = days == 0 ? 0 : (double) totalRecords / days;
@@ -227,20 +225,13 @@ public class KeywordService {
     }
 
     // 키워드의 최근 7일간 평균 기록 수를 반환
-    private double getAvgWeeklyRecordByRecords(List<Record> records) {
-        // 최근 7일간 기록 조회 (날짜 기준 오름차순 정렬 후 최근 7일 간의 기록만 추출) -> 하루에도 여러 개의 기록이 있을 수 있음
-        LocalDateTime today = LocalDateTime.now();
-        LocalDateTime weekAgo = today.minusDays(7);
-        List<Record> recentRecords = records.stream()
-                .filter(record -> record.getActionTime().isAfter(weekAgo))
-                .toList();
-
-        // 최근 7일간 기록 수 계산
-        long totalRecords = recentRecords.size();
+    private double getAvgWeeklyRecordByRecentCount(Long recentCount) {
+        // 최근 7일간 기록 수 (하루에도 여러 개의 기록이 있을 수 있음)
+        long totalRecords = recentCount == null ? 0 : recentCount;
         long days = 7;
 
         // 일일 평균 계산
-        double result = days == 0 ? 0 : (double) totalRecords / days;
+        double result = (double) totalRecords / days;
         // 소수점 둘째 자리에서 반올림하여 반환
         return roundToTwoDecimal(result);
     }
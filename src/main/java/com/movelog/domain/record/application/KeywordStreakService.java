@@ -0,0 +1,112 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.KeywordStreak;
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.repository.KeywordRepository;
+import com.movelog.domain.record.domain.repository.KeywordStreakRepository;
+import com.movelog.domain.record.domain.repository.RecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class KeywordStreakService {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final String REBUILD_KEY = "stats:backfill:keyword_streak";
+
+    private final KeywordStreakRepository keywordStreakRepository;
+    private final KeywordRepository keywordRepository;
+    private final RecordRepository recordRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 기록 날짜 반영 (기록 생성 트랜잭션에 참여)
+     */
+    @Transactional
+    public void record(Long keywordId, LocalDate date) {
+        keywordStreakRepository.record(keywordId, date);
+    }
+
+    /**
+     * 사용자의 동사-명사 쌍에 대한 현재 연속 기록 일수 (기록이 없거나 어제까지 기록하지 않아 끊겼으면 0)
+     */
+    public int getCurrentStreak(Long userId, VerbType verbType, String noun) {
+        return keywordStreakRepository.findCurrentStreak(userId, noun, verbType, LocalDate.now().minusDays(1)).orElse(0);
+    }
+
+    /**
+     * 재계산을 완료한 적 없으면 기존 기록으로 재계산
+     * 워밍업 중에도 기록이 생성되어 테이블이 비어 있지 않을 수 있으므로, 테이블 상태가 아닌 완료 표시로 판단
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIfMissing() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(REBUILD_KEY))) {
+            return;
+        }
+        int rebuilt = rebuildAll();
+        redisTemplate.opsForValue().set(REBUILD_KEY, String.valueOf(rebuilt));
+    }
+
+    /**
+     * 다음 워밍업에서 전체 키워드를 다시 계산하도록 완료 표시 제거 (키워드를 합친 경우 등)
+     */
+    public void requestRebuild() {
+        redisTemplate.delete(REBUILD_KEY);
+    }
+
+    /**
+     * 전체 키워드의 연속 기록 상태를 기록 이력으로부터 재계산 (키워드 ID 순으로 나누어 청크마다 커밋)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        log.info("🔄 keyword_streak 재계산 시작...");
+        long lastKeywordId = 0L;
+        int rebuilt = 0;
+
+        while (true) {
+            long after = lastKeywordId;
+            List<Long> keywordIds = transactionTemplate.execute(status -> rebuildChunk(after));
+            if (keywordIds == null || keywordIds.isEmpty()) break;
+
+            rebuilt += keywordIds.size();
+            lastKeywordId = keywordIds.get(keywordIds.size() - 1);
+        }
+
+        log.info("✅ keyword_streak 재계산 완료! 키워드 개수: {}", rebuilt);
+        return rebuilt;
+    }
+
+    // 청크의 키워드 행을 잠근 뒤 기록 날짜를 읽어 재계산
+    // 같은 키워드의 기록 생성은 커밋까지 대기한 뒤 재계산된 상태에 이어서 반영되므로 덮어써도 유실되지 않음
+    private List<Long> rebuildChunk(long lastKeywordId) {
+        List<Long> keywordIds = keywordRepository.lockKeywordIdsAfter(lastKeywordId, REBUILD_CHUNK_SIZE);
+        if (keywordIds.isEmpty()) {
+            return keywordIds;
+        }
+
+        Map<Long, KeywordStreak> streaks = new LinkedHashMap<>();
+        for (Object[] row : recordRepository.findActionDatesByKeywordIds(keywordIds)) {
+            Long keywordId = (Long) row[0];
+            LocalDate date = (LocalDate) row[1];
+            streaks.computeIfAbsent(keywordId, KeywordStreak::new).getStreak().record(date);
+        }
+
+        // 식별자가 같은 기존 상태는 merge 시 새로 계산한 값으로 덮어씀
+        keywordStreakRepository.saveAll(streaks.values());
+        return keywordIds;
+    }
+}
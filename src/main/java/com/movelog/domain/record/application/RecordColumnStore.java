@@ -0,0 +1,374 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.event.UserRecordsDeletedEvent;
+import com.movelog.domain.record.domain.repository.RecordRepository;
+import com.movelog.domain.record.dto.projection.RecordStatsRow;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * 전체 기록을 원시 타입 컬럼(날짜, 카테고리, 명사 ID, 사용자 ID)으로 메모리에 보관하는 집계 저장소
+ * 기록 1건당 18바이트(int epochDay, short verbType ordinal, int nounId, long userId)로, 1,000만 건도 약 180MB
+ * 시작 시 keyset 페이지 단위로 한 번 적재하고, 이후에는 주기적으로 DB를 읽어 새 기록을 뒤에 추가
+ * 로컬 이벤트가 아닌 DB를 읽으므로 다른 인스턴스에서 생성된 기록도 반영되며,
+ * IDENTITY ID가 커밋 순서와 다를 수 있으므로 최근 구간은 다시 읽고 이미 반영한 ID는 건너뜀
+ * 회원 탈퇴는 pub/sub으로 모든 인스턴스에 전파하고, 다음 폴링에서 해당 사용자의 기록을 뺀 새 배열로 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordColumnStore {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    // 이 건수 이상이면 병렬(fork-join)로 스캔
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+    private static final int SCAN_SLICE_SIZE = 1 << 18;
+    // 적재 시작 전, 최대 ID 이하로 INSERT되었지만 아직 커밋되지 않은 기록이 커밋될 때까지 기다리는 시간
+    private static final long COMMIT_GRACE_MILLIS = 5_000L;
+    // 이 시간 동안은 커밋이 늦은 기록이 있을 수 있다고 보고 다시 읽음
+    private static final Duration LATE_COMMIT_WINDOW = Duration.ofMinutes(1);
+    private static final String USER_DELETED_CHANNEL = "stats:column-store:user-deleted";
+
+    private final RecordRepository recordRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private short[] verbTypes = new short[INITIAL_CAPACITY];
+    private int[] nounIds = new int[INITIAL_CAPACITY];
+    private long[] userIds = new long[INITIAL_CAPACITY];
+    private int size;
+
+    private final Map<String, Integer> nounIndex = new HashMap<>();
+    private String[] nouns = new String[INITIAL_CAPACITY];
+    private int nounCount;
+
+    // 이 ID 이하의 기록은 모두 반영되어 다시 읽지 않음
+    private volatile long settledUpTo;
+    private volatile boolean loaded;
+
+    // settledUpTo 이후 반영한 기록 ID와 폴링 시점별로 본 최대 기록 ID {시각, ID} (폴링 스레드에서만 사용)
+    private final Set<Long> recentIds = new HashSet<>();
+    private final Deque<long[]> seenMaxIds = new ArrayDeque<>();
+    // 기록을 제거할 탈퇴 사용자 ID (폴링 스레드에서 처리)
+    private final Queue<Long> deletedUserIds = new ConcurrentLinkedQueue<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String userId = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                deletedUserIds.add(Long.parseLong(userId));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid column store user deletion message: {}", userId);
+            }
+        }, new ChannelTopic(USER_DELETED_CHANNEL));
+    }
+
+    /**
+     * 회원 탈퇴 커밋 이후 모든 인스턴스에 전파 (자신도 구독으로 받아 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserRecordsDeleted(UserRecordsDeletedEvent event) {
+        try {
+            redisTemplate.convertAndSend(USER_DELETED_CHANNEL, String.valueOf(event.getUserId()));
+        } catch (DataAccessException e) {
+            // 전파에 실패하면 이 인스턴스에서만 제거 (다른 인스턴스는 재시작 시 다시 적재하며 제외됨)
+            log.error("Failed to broadcast column store user deletion: userId={}, error={}", event.getUserId(), e.getMessage());
+            deletedUserIds.add(event.getUserId());
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 저장소가 비어 있으면 DB에서 전체 기록을 적재
+     * 이전 적재가 중간에 실패했다면 적재된 부분을 비우고 처음부터 다시 적재
+     */
+    public void loadIfEmpty() {
+        if (loaded) {
+            return;
+        }
+
+        long maxRecordId = recordRepository.findMaxRecordId().orElse(0L);
+        awaitPendingCommits();
+        clear();
+
+        long lastRecordId = 0L;
+        while (lastRecordId < maxRecordId) {
+            List<RecordStatsRow> rows = recordRepository.findStatsRowsAfter(lastRecordId, maxRecordId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            if (rows.isEmpty()) break;
+
+            lock.writeLock().lock();
+            try {
+                for (RecordStatsRow row : rows) {
+                    append(row);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastRecordId = rows.get(rows.size() - 1).getRecordId();
+        }
+
+        settledUpTo = maxRecordId;
+        loaded = true;
+        log.info("✅ 기록 컬럼 저장소 적재 완료! 기록 개수: {}, 명사 개수: {}", size, nounCount);
+    }
+
+    /**
+     * 적재 이후 생성된 기록 반영 (모든 인스턴스에서 주기적으로 실행)
+     * settledUpTo 이후의 기록을 모두 읽어 처음 보는 ID만 추가하고, LATE_COMMIT_WINDOW 전에 본 최대 ID까지 확정
+     */
+    @Scheduled(fixedDelayString = "${stats.column-store.poll-delay-ms:5000}")
+    public void poll() {
+        if (!loaded) {
+            return;
+        }
+
+        // 탈퇴 커밋 이후에 받은 알림이므로, 이후 DB에서 읽는 기록에는 해당 사용자의 기록이 없음
+        removeDeletedUsers();
+
+        long now = System.currentTimeMillis();
+        long lastRecordId = settledUpTo;
+        while (true) {
+            List<RecordStatsRow> rows = recordRepository.findStatsRowsAfter(lastRecordId, Long.MAX_VALUE, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            if (rows.isEmpty()) break;
+
+            lock.writeLock().lock();
+            try {
+                for (RecordStatsRow row : rows) {
+                    if (recentIds.add(row.getRecordId())) {
+                        append(row);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastRecordId = rows.get(rows.size() - 1).getRecordId();
+            if (rows.size() < LOAD_CHUNK_SIZE) break;
+        }
+
+        seenMaxIds.addLast(new long[]{now, lastRecordId});
+        while (!seenMaxIds.isEmpty() && now - seenMaxIds.peekFirst()[0] >= LATE_COMMIT_WINDOW.toMillis()) {
+            settledUpTo = Math.max(settledUpTo, seenMaxIds.pollFirst()[1]);
+        }
+        long settled = settledUpTo;
+        recentIds.removeIf(recordId -> recordId <= settled);
+    }
+
+    // 탈퇴 사용자의 기록을 뺀 새 배열을 만들어 교체 (스캔 중인 스냅샷은 이전 배열을 그대로 사용)
+    private void removeDeletedUsers() {
+        Set<Long> removed = new HashSet<>();
+        for (Long userId = deletedUserIds.poll(); userId != null; userId = deletedUserIds.poll()) {
+            removed.add(userId);
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int capacity = epochDays.length;
+            int[] keptDays = new int[capacity];
+            short[] keptVerbTypes = new short[capacity];
+            int[] keptNounIds = new int[capacity];
+            long[] keptUserIds = new long[capacity];
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (removed.contains(userIds[i])) continue;
+                keptDays[kept] = epochDays[i];
+                keptVerbTypes[kept] = verbTypes[i];
+                keptNounIds[kept] = nounIds[i];
+                keptUserIds[kept] = userIds[i];
+                kept++;
+            }
+
+            log.info("기록 컬럼 저장소에서 탈퇴 사용자 기록 제거: 사용자 {}명, 기록 {}건", removed.size(), size - kept);
+            epochDays = keptDays;
+            verbTypes = keptVerbTypes;
+            nounIds = keptNounIds;
+            userIds = keptUserIds;
+            size = kept;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void awaitPendingCommits() {
+        try {
+            Thread.sleep(COMMIT_GRACE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("기록 컬럼 저장소 적재 대기 중 중단됨", e);
+        }
+    }
+
+    /**
+     * 카테고리의 날짜별 기록 수
+     */
+    public Map<LocalDate, Integer> countDaily(VerbType verbType) {
+        Columns columns = snapshot();
+        if (columns.size() == 0) {
+            return Map.of();
+        }
+
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+        for (int i = 0; i < columns.size(); i++) {
+            minDay = Math.min(minDay, columns.epochDays()[i]);
+            maxDay = Math.max(maxDay, columns.epochDays()[i]);
+        }
+
+        int offset = minDay;
+        int[] counts = histogram(columns, maxDay - minDay + 1, (short) verbType.ordinal(), columns.epochDays(), offset);
+
+        Map<LocalDate, Integer> dailyRecords = new TreeMap<>();
+        for (int day = 0; day < counts.length; day++) {
+            if (counts[day] > 0) {
+                dailyRecords.put(LocalDate.ofEpochDay(day + offset), counts[day]);
+            }
+        }
+        return dailyRecords;
+    }
+
+    /**
+     * 카테고리에서 가장 많이 기록된 명사 (기록 수 내림차순, 같으면 명사 오름차순)
+     */
+    public Map<String, Integer> countTopNouns(VerbType verbType, int limit) {
+        Columns columns = snapshot();
+        int[] counts = histogram(columns, columns.nounCount(), (short) verbType.ordinal(), columns.nounIds(), 0);
+
+        Integer[] ranked = IntStream.range(0, counts.length)
+                .filter(nounId -> counts[nounId] > 0)
+                .boxed()
+                .toArray(Integer[]::new);
+        Arrays.sort(ranked, (a, b) -> counts[a] != counts[b]
+                ? Integer.compare(counts[b], counts[a])
+                : columns.nouns()[a].compareTo(columns.nouns()[b]));
+
+        Map<String, Integer> topNouns = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(limit, ranked.length); i++) {
+            topNouns.put(columns.nouns()[ranked[i]], counts[ranked[i]]);
+        }
+        return topNouns;
+    }
+
+    // 카테고리가 일치하는 기록을 group 컬럼 값(- offset) 기준으로 센 히스토그램
+    private int[] histogram(Columns columns, int buckets, short verbType, int[] group, int offset) {
+        if (columns.size() < PARALLEL_THRESHOLD) {
+            return countSlice(columns, buckets, verbType, group, offset, 0, columns.size());
+        }
+
+        int slices = (columns.size() + SCAN_SLICE_SIZE - 1) / SCAN_SLICE_SIZE;
+        return IntStream.range(0, slices)
+                .parallel()
+                .mapToObj(slice -> countSlice(columns, buckets, verbType, group, offset,
+                        slice * SCAN_SLICE_SIZE, Math.min(columns.size(), (slice + 1) * SCAN_SLICE_SIZE)))
+                .reduce(new int[buckets], (a, b) -> {
+                    int[] merged = new int[buckets];
+                    for (int i = 0; i < buckets; i++) {
+                        merged[i] = a[i] + b[i];
+                    }
+                    return merged;
+                });
+    }
+
+    private int[] countSlice(Columns columns, int buckets, short verbType, int[] group, int offset, int from, int to) {
+        int[] counts = new int[buckets];
+        short[] verbs = columns.verbTypes();
+        for (int i = from; i < to; i++) {
+            if (verbs[i] == verbType) {
+                counts[group[i] - offset]++;
+            }
+        }
+        return counts;
+    }
+
+    // 추가는 기존 인덱스를 덮어쓰지 않고 제거는 새 배열로 교체하므로, 배열 참조와 size만 잠금 안에서 읽으면 이후 잠금 없이 스캔 가능
+    private Columns snapshot() {
+        lock.readLock().lock();
+        try {
+            return new Columns(epochDays, verbTypes, nounIds, size, nouns, nounCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            nounIndex.clear();
+            Arrays.fill(nouns, 0, nounCount, null);
+            nounCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void append(RecordStatsRow row) {
+        if (row.getVerbType() == null) return;
+        appendUnlocked(row.getActionTime().toLocalDate(), row.getVerbType(), row.getNoun(), row.getUserId());
+    }
+
+    private void appendUnlocked(LocalDate date, VerbType verbType, String noun, Long userId) {
+        if (size == epochDays.length) {
+            int capacity = epochDays.length * 2;
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            verbTypes = Arrays.copyOf(verbTypes, capacity);
+            nounIds = Arrays.copyOf(nounIds, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+        }
+
+        epochDays[size] = (int) date.toEpochDay();
+        verbTypes[size] = (short) verbType.ordinal();
+        nounIds[size] = nounIndex.computeIfAbsent(noun, this::internUnlocked);
+        userIds[size] = userId == null ? 0L : userId;
+        size++;
+    }
+
+    private int internUnlocked(String noun) {
+        if (nounCount == nouns.length) {
+            nouns = Arrays.copyOf(nouns, nouns.length * 2);
+        }
+        nouns[nounCount] = noun;
+        return nounCount++;
+    }
+
+    private record Columns(int[] epochDays, short[] verbTypes, int[] nounIds, int size, String[] nouns, int nounCount) {}
+}
@@ -0,0 +1,119 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.repository.RecordDailyRollupRepository;
+import com.movelog.domain.record.domain.repository.RecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.ToIntBiFunction;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecordDailyRollupService {
+
+    private static final int BACKFILL_CHUNK_SIZE = 5000;
+    private static final String ROLLUP_BACKFILL_KEY = "stats:backfill:record_daily_rollup";
+    private static final String RECORD_COLUMNS_BACKFILL_KEY = "stats:backfill:record_columns";
+
+    private final RecordDailyRollupRepository recordDailyRollupRepository;
+    private final RecordRepository recordRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 한 번 채워지면 다시 비지 않으므로 완료를 확인한 뒤에는 Redis를 읽지 않음
+    private volatile boolean recordColumnsFilled;
+
+    /**
+     * 기록 1건 반영 (기록 생성 트랜잭션에 참여)
+     */
+    @Transactional
+    public void increment(VerbType verbType, String noun, LocalDate date) {
+        recordDailyRollupRepository.increment(verbType.name(), noun, date);
+    }
+
+    /**
+     * 컬럼 추가 이전에 생성된 기록의 파생 컬럼(action_date, user_id, verb_type)을 채움
+     * 기록 ID 구간마다 커밋하여 한 번에 많은 행을 잠그지 않음 (집계 테이블 초기화보다 먼저 실행)
+     * 시작 시점의 최대 ID 이후 기록은 생성 시 채워지므로, 끝까지 진행하면 완료 표시
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillRecordColumns() {
+        if (isRecordColumnsFilled()) {
+            return;
+        }
+
+        long maxRecordId = recordRepository.findMaxRecordId().orElse(0L);
+        fillInChunks("action_date", maxRecordId, recordRepository::fillMissingActionDates);
+        fillInChunks("user_id, verb_type", maxRecordId, recordRepository::fillMissingKeywordColumns);
+
+        redisTemplate.opsForValue().set(RECORD_COLUMNS_BACKFILL_KEY, String.valueOf(maxRecordId));
+        recordColumnsFilled = true;
+    }
+
+    /**
+     * 기존 기록의 파생 컬럼(user_id, verb_type)이 모두 채워졌는지 여부
+     * 채워지기 전에는 조회 시 키워드를 조인하여 사용자/카테고리를 거름
+     */
+    public boolean isRecordColumnsFilled() {
+        if (!recordColumnsFilled) {
+            try {
+                recordColumnsFilled = Boolean.TRUE.equals(redisTemplate.hasKey(RECORD_COLUMNS_BACKFILL_KEY));
+            } catch (DataAccessException e) {
+                return false;
+            }
+        }
+        return recordColumnsFilled;
+    }
+
+    private void fillInChunks(String columns, long maxRecordId, ToIntBiFunction<Long, Long> fill) {
+        int filled = 0;
+        for (long afterId = 0L; afterId < maxRecordId; afterId += BACKFILL_CHUNK_SIZE) {
+            filled += fill.applyAsInt(afterId, Math.min(afterId + BACKFILL_CHUNK_SIZE, maxRecordId));
+        }
+
+        if (filled > 0) {
+            log.info("✅ record.{} 채우기 완료! 갱신된 기록 개수: {}", columns, filled);
+        }
+    }
+
+    /**
+     * 초기 집계가 완료되어 집계 테이블에 전체 기록이 반영되어 있는지 여부
+     */
+    public boolean isBackfilled() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(ROLLUP_BACKFILL_KEY));
+    }
+
+    /**
+     * 초기 집계를 완료한 적 없으면 기존 기록으로 채움
+     * 워밍업 중에도 기록이 생성되어 테이블이 비어 있지 않을 수 있으므로, 테이블 상태가 아닌 완료 표시로 판단
+     * 한 달 구간마다 record 테이블에서 다시 세어 덮어쓰므로 이미 증가된 행이 있어도 결과가 같음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfMissing() {
+        if (isBackfilled()) {
+            return;
+        }
+
+        log.info("🔄 record_daily_rollup 초기 집계 시작...");
+        int rows = 0;
+        Optional<LocalDate> firstDate = recordRepository.findMinActionDate();
+        if (firstDate.isPresent()) {
+            LocalDate today = LocalDate.now();
+            for (LocalDate start = firstDate.get().withDayOfMonth(1); !start.isAfter(today); start = start.plusMonths(1)) {
+                rows += recordDailyRollupRepository.recomputeBetween(start, start.plusMonths(1).minusDays(1));
+            }
+        }
+
+        redisTemplate.opsForValue().set(ROLLUP_BACKFILL_KEY, String.valueOf(rows));
+        log.info("✅ record_daily_rollup 초기 집계 완료! 반영된 행 개수: {}", rows);
+    }
+}
@@ -0,0 +1,225 @@
+package com.movelog.domain.record.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.event.RecordCreatedEvent;
+import com.movelog.domain.record.dto.response.AllUserRecordStatsRes;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 전체 사용자 기록 통계(AllUserRecordStatsRes) 2단계 캐시
+ * L1: 인스턴스 메모리 (크기 제한), L2: Redis JSON
+ * 카테고리별 세대(generation)를 기록 생성 시 올리고 pub/sub으로 다른 인스턴스에 전파하며,
+ * 세대가 지났거나 오래된 항목은 우선 응답한 뒤 백그라운드에서 갱신 (stale-while-revalidate)
+ * 기록이 계속 생성되어도 같은 Key는 MIN_REFRESH_INTERVAL에 한 번만 다시 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordStatsCache {
+
+    private static final String CACHE_PREFIX = "stats:cache:";
+    private static final String GENERATION_PREFIX = "stats:cache:gen:";
+    static final String INVALIDATE_CHANNEL = "stats:cache:invalidate";
+
+    // 이 시간이 지나면 응답 후 갱신, HARD_TTL이 지나면 응답 전에 다시 계산
+    private static final Duration SOFT_TTL = Duration.ofMinutes(1);
+    private static final Duration HARD_TTL = Duration.ofMinutes(10);
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(5);
+    private static final int L1_MAX_ENTRIES = 256;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    @Qualifier("statsCacheExecutor")
+    private final ThreadPoolTaskExecutor statsCacheExecutor;
+
+    private final Map<String, CachedStats> localCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedStats> eldest) {
+                    return size() > L1_MAX_ENTRIES;
+                }
+            });
+    private final Map<VerbType, Long> generations = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedStats>> inFlight = new ConcurrentHashMap<>();
+
+    record CachedStats(long generation, long computedAt, AllUserRecordStatsRes stats) {}
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidate(message), new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 캐시된 통계 조회, 없거나 너무 오래되었으면 loader로 계산 (같은 Key는 동시에 한 번만 계산)
+     */
+    public AllUserRecordStatsRes get(VerbType verbType, String period, String month, Supplier<AllUserRecordStatsRes> loader) {
+        String key = cacheKey(verbType, period, month);
+        long generation = currentGeneration(verbType);
+
+        CachedStats cached = localCache.get(key);
+        if (cached == null) {
+            cached = readRemote(key);
+            if (cached != null) {
+                localCache.put(key, cached);
+            }
+        }
+
+        if (cached != null) {
+            long age = System.currentTimeMillis() - cached.computedAt();
+            boolean current = cached.generation() >= generation;
+            if (current && age < SOFT_TTL.toMillis()) {
+                return cached.stats();
+            }
+            if (age < HARD_TTL.toMillis()) {
+                // 세대만 지난 경우 직전 계산 후 MIN_REFRESH_INTERVAL이 지나야 다시 계산
+                if (!current && age < MIN_REFRESH_INTERVAL.toMillis()) {
+                    return cached.stats();
+                }
+                refresh(key, generation, loader, statsCacheExecutor);
+                return cached.stats();
+            }
+        }
+
+        try {
+            return refresh(key, generation, loader, Runnable::run).join().stats();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 카테고리의 현재 세대 (스냅샷이 이 세대 이후에 계산되었는지 비교하는 데에도 사용)
+     */
+    public long currentGeneration(VerbType verbType) {
+        return generations.computeIfAbsent(verbType, type -> {
+            try {
+                String generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + type.getVerbType());
+                return generation == null ? 0L : Long.parseLong(generation);
+            } catch (DataAccessException e) {
+                return 0L;
+            }
+        });
+    }
+
+    /**
+     * 기록 생성 커밋 이후 해당 카테고리 세대를 올리고 다른 인스턴스에 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordCreated(RecordCreatedEvent event) {
+        VerbType verbType = event.getVerbType();
+        if (verbType == null) return;
+
+        try {
+            Long generation = redisTemplate.opsForValue().increment(GENERATION_PREFIX + verbType.getVerbType());
+            if (generation != null) {
+                generations.merge(verbType, generation, Math::max);
+                redisTemplate.convertAndSend(INVALIDATE_CHANNEL, verbType.name() + ":" + generation);
+            }
+        } catch (DataAccessException e) {
+            // 전파에 실패해도 SOFT_TTL이 지나면 갱신됨
+            log.error("Failed to invalidate stats cache for category={}: {}", verbType.getVerbType(), e.getMessage());
+        }
+    }
+
+    private void onInvalidate(Message message) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        try {
+            generations.merge(VerbType.valueOf(body[0]), Long.parseLong(body[1]), Math::max);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            log.warn("Invalid stats cache invalidation message: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    // 같은 Key의 계산이 진행 중이면 그 결과를 공유
+    // generation은 계산 전에 읽은 세대로, 계산 중 생성된 기록이 있으면 다음 조회에서 다시 갱신됨
+    private CompletableFuture<CachedStats> refresh(String key, long generation, Supplier<AllUserRecordStatsRes> loader, Executor executor) {
+        CompletableFuture<CachedStats> created = new CompletableFuture<>();
+        CompletableFuture<CachedStats> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        Runnable task = () -> {
+            try {
+                // 다른 인스턴스가 이미 이 세대로 계산해 둔 결과가 있으면 다시 계산하지 않음
+                CachedStats remote = readRemote(key);
+                boolean reusable = remote != null && remote.generation() >= generation
+                        && System.currentTimeMillis() - remote.computedAt() < SOFT_TTL.toMillis();
+                CachedStats computed = reusable ? remote : new CachedStats(generation, System.currentTimeMillis(), loader.get());
+                localCache.put(key, computed);
+                if (!reusable) {
+                    writeRemote(key, computed);
+                }
+                created.complete(computed);
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, created);
+            }
+        };
+
+        try {
+            executor.execute(task);
+        } catch (TaskRejectedException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private CachedStats readRemote(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, CachedStats.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read stats cache: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, CachedStats cached) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(cached), HARD_TTL);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to write stats cache: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    // 일간/주간 통계는 오늘 날짜에 따라 달라지므로 날짜를 포함
+    private String cacheKey(VerbType verbType, String period, String month) {
+        String monthPart = "monthly".equals(period) && month != null ? month : "-";
+        return CACHE_PREFIX + verbType.getVerbType() + ":" + period + ":" + monthPart + ":" + LocalDate.now();
+    }
+}
@@ -0,0 +1,70 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.repository.RecordDailyRollupRepository;
+import com.movelog.domain.record.domain.repository.RecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 사용자 기록 통계 집계
+ * Record 엔티티를 불러오지 않고, 메모리 컬럼 저장소(RecordColumnStore)가 적재되어 있으면 저장소를 스캔하고
+ * 적재 전에는 일별 집계 테이블(record_daily_rollup)의 날짜별, 키워드별 합계로 통계를 계산
+ * 집계 테이블 초기 집계가 끝나기 전(워밍업 완료 전)에는 record 테이블을 직접 집계
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecordStatsEngine {
+
+    public static final int TOP_KEYWORD_LIMIT = 5;
+
+    private final RecordDailyRollupRepository recordDailyRollupRepository;
+    private final RecordColumnStore recordColumnStore;
+    private final RecordRepository recordRepository;
+
+    public RecordStatsSummary summarize(VerbType verbType) {
+        if (recordColumnStore.isLoaded()) {
+            return new RecordStatsSummary(
+                    recordColumnStore.countDaily(verbType),
+                    recordColumnStore.countTopNouns(verbType, TOP_KEYWORD_LIMIT));
+        }
+
+        Map<LocalDate, Integer> dailyRecords = new HashMap<>();
+        for (Object[] row : recordDailyRollupRepository.sumDailyByVerbType(verbType)) {
+            dailyRecords.put((LocalDate) row[0], ((Number) row[1]).intValue());
+        }
+
+        Map<String, Integer> topKeywords = new LinkedHashMap<>();
+        for (Object[] row : recordDailyRollupRepository.sumByNoun(verbType, PageRequest.of(0, TOP_KEYWORD_LIMIT))) {
+            topKeywords.put((String) row[0], ((Number) row[1]).intValue());
+        }
+
+        return new RecordStatsSummary(dailyRecords, topKeywords);
+    }
+
+    /**
+     * record 테이블에서 직접 집계 (느리지만 집계 테이블, 파생 컬럼 상태와 무관하게 정확)
+     */
+    public RecordStatsSummary summarizeFromRecords(VerbType verbType) {
+        Map<LocalDate, Integer> dailyRecords = new HashMap<>();
+        for (Object[] row : recordRepository.countDailyByVerbType(verbType)) {
+            dailyRecords.put((LocalDate) row[0], ((Number) row[1]).intValue());
+        }
+
+        Map<String, Integer> topKeywords = new LinkedHashMap<>();
+        for (Object[] row : recordRepository.countByNoun(verbType, PageRequest.of(0, TOP_KEYWORD_LIMIT))) {
+            topKeywords.put((String) row[0], ((Number) row[1]).intValue());
+        }
+
+        return new RecordStatsSummary(dailyRecords, topKeywords);
+    }
+}
@@ -0,0 +1,146 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.WeekFields;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 기간별 통계 ZSET의 Redis Key 생성 규칙
+ * stats:{기간}:{카테고리}:{날짜 버킷}, 전체 통계는 stats:total:{카테고리}
+ * 날짜별 사용자 수 HyperLogLog는 hll:{noun|category|active}:...:{날짜}
+ * 날짜별 사용자 비트맵(bit = 사용자 ID)은 activity:day:{날짜}(기록), cohort:day:{날짜}(가입)
+ * 재구성 중인 기간별 통계는 stats:rebuild:shadow:{기간별 통계 Key}에 쌓은 뒤 교체
+ */
+@UtilityClass
+public class RecordStatsKeys {
+
+    public static final String DAILY_PREFIX = "stats:daily:";
+    public static final String WEEKLY_PREFIX = "stats:weekly:";
+    public static final String MONTHLY_PREFIX = "stats:monthly:";
+    public static final String TOTAL_PREFIX = "stats:total:";
+    public static final String NOUN_USERS_PREFIX = "hll:noun:";
+    public static final String CATEGORY_USERS_PREFIX = "hll:category:";
+    public static final String ACTIVE_USERS_PREFIX = "hll:active:";
+    public static final String ACTIVITY_PREFIX = "activity:day:";
+    public static final String COHORT_PREFIX = "cohort:day:";
+    public static final String SHADOW_PREFIX = "stats:rebuild:shadow:";
+    // 재구성 시작 시점의 최대 기록 ID (재구성 중에만 존재), 이보다 큰 ID의 기록은 생성 시 shadow Key에도 반영
+    public static final String REBUILD_WATERMARK_KEY = "stats:rebuild:watermark";
+    // 재구성 중 shadow Key에 반영된 watermark 이후 기록 ID (기록 생성과 재구성이 같은 기록을 두 번 세지 않도록 SADD로 선점)
+    public static final String REBUILD_APPLIED_KEY = "stats:rebuild:applied";
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter WEEK_FORMAT = DateTimeFormatter.ofPattern("YYYY-ww");
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    public static String dailyKey(VerbType verbType, LocalDate date) {
+        return DAILY_PREFIX + verbType.getVerbType() + ":" + date.format(DAY_FORMAT);
+    }
+
+    public static String weeklyKey(VerbType verbType, LocalDate date) {
+        return WEEKLY_PREFIX + verbType.getVerbType() + ":" + date.format(WEEK_FORMAT);
+    }
+
+    public static String monthlyKey(VerbType verbType, LocalDate date) {
+        return MONTHLY_PREFIX + verbType.getVerbType() + ":" + date.format(MONTH_FORMAT);
+    }
+
+    public static String totalKey(VerbType verbType) {
+        return TOTAL_PREFIX + verbType.getVerbType();
+    }
+
+    /**
+     * 조회 기간(daily, weekly, monthly, total)에 해당하는 Key
+     */
+    public static String periodKey(VerbType verbType, String period, LocalDate date) {
+        return switch (period) {
+            case "daily" -> dailyKey(verbType, date);
+            case "weekly" -> weeklyKey(verbType, date);
+            case "monthly" -> monthlyKey(verbType, date);
+            default -> totalKey(verbType);
+        };
+    }
+
+    /**
+     * 재구성 중인 기간별 통계 Key
+     */
+    public static String shadowKey(String key) {
+        return SHADOW_PREFIX + key;
+    }
+
+    /**
+     * 조회 기간 버킷의 시작일 (전체 기간은 null)
+     * 주간 버킷은 Key 포맷(YYYY-ww)과 같은 기본 Locale 기준 주 시작일을 사용
+     */
+    public static LocalDate periodStart(String period, LocalDate date) {
+        return switch (period) {
+            case "daily" -> date;
+            case "weekly" -> date.with(WeekFields.of(Locale.getDefault()).dayOfWeek(), 1);
+            case "monthly" -> date.withDayOfMonth(1);
+            default -> null;
+        };
+    }
+
+    /**
+     * 기록 1건이 반영되어야 하는 모든 기간의 Key
+     */
+    public static List<String> periodKeys(VerbType verbType, LocalDate date) {
+        return List.of(
+                dailyKey(verbType, date),
+                weeklyKey(verbType, date),
+                monthlyKey(verbType, date),
+                totalKey(verbType)
+        );
+    }
+
+    /**
+     * 날짜별 명사를 기록한 사용자 HyperLogLog
+     */
+    public static String nounUsersKey(String noun, LocalDate date) {
+        return NOUN_USERS_PREFIX + noun + ":" + date.format(DAY_FORMAT);
+    }
+
+    /**
+     * 날짜별 카테고리에 기록한 사용자 HyperLogLog
+     */
+    public static String categoryUsersKey(VerbType verbType, LocalDate date) {
+        return CATEGORY_USERS_PREFIX + verbType.getVerbType() + ":" + date.format(DAY_FORMAT);
+    }
+
+    /**
+     * 날짜별 기록한 사용자(활성 사용자) HyperLogLog
+     */
+    public static String activeUsersKey(LocalDate date) {
+        return ACTIVE_USERS_PREFIX + date.format(DAY_FORMAT);
+    }
+
+    /**
+     * 기록 1건의 사용자가 반영되어야 하는 모든 HyperLogLog Key
+     */
+    public static List<String> userKeys(VerbType verbType, String noun, LocalDate date) {
+        return List.of(
+                nounUsersKey(noun, date),
+                categoryUsersKey(verbType, date),
+                activeUsersKey(date)
+        );
+    }
+
+    /**
+     * 날짜별 기록한 사용자 비트맵
+     */
+    public static String activityKey(LocalDate date) {
+        return ACTIVITY_PREFIX + date.format(DAY_FORMAT);
+    }
+
+    /**
+     * 날짜별 가입한 사용자 비트맵
+     */
+    public static String cohortKey(LocalDate date) {
+        return COHORT_PREFIX + date.format(DAY_FORMAT);
+    }
+}
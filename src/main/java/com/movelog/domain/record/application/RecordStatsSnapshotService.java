@@ -0,0 +1,186 @@
+package com.movelog.domain.record.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.dto.response.AllUserRecordStatsRes;
+import com.movelog.global.lock.Lease;
+import com.movelog.global.lock.RedisLockManager;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 전체 사용자 기록 통계 스냅샷
+ * 모든 (카테고리, 기간, 최근 월) 조합을 주기적으로 한 인스턴스에서 미리 계산하여 세대(generation) 단위로 저장하고,
+ * 조회 시에는 현재 세대의 Key 하나만 읽음
+ * 각 조합에 계산 시작 시점의 캐시 세대(RecordStatsCache)를 함께 저장하여,
+ * 이후 해당 카테고리에 기록이 생성되었으면 스냅샷 대신 무효화된 캐시에서 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecordStatsSnapshotService {
+
+    private static final String SNAPSHOT_PREFIX = "stats:snapshot:";
+    private static final String GENERATION_KEY = "stats:snapshot:generation";
+    private static final String CURRENT_KEY = "stats:snapshot:current";
+    private static final String PUBLISHED_CHANNEL = "stats:snapshot:published";
+
+    private static final List<String> PERIODS = List.of("daily", "weekly", "monthly", "total");
+    private static final int RECENT_MONTHS = 6;
+    private static final Duration SNAPSHOT_TTL = Duration.ofHours(1);
+    private static final String SNAPSHOT_LOCK = "stats:snapshot";
+    private static final Duration SNAPSHOT_LOCK_TTL = Duration.ofMinutes(5);
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final AllUserRecordStatsCalculator allUserRecordStatsCalculator;
+    private final RecordStatsCache recordStatsCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisLockManager redisLockManager;
+    private final ObjectMapper objectMapper;
+
+    // 현재 세대 (-1: 아직 읽지 않음, 0: 발행된 스냅샷 없음), 발행 알림으로 갱신
+    private volatile long currentGeneration = -1L;
+
+    // cacheGeneration: 계산을 시작할 때의 카테고리 캐시 세대
+    record SnapshotEntry(long cacheGeneration, AllUserRecordStatsRes stats) {}
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> updateGeneration(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(PUBLISHED_CHANNEL));
+    }
+
+    /**
+     * 현재 세대의 스냅샷 조회 (계산 이후 캐시 세대가 minCacheGeneration까지 올라갔으면 empty)
+     */
+    public Optional<AllUserRecordStatsRes> findSnapshot(VerbType verbType, String period, String month, long minCacheGeneration) {
+        long generation = currentGeneration();
+        if (generation <= 0) {
+            return Optional.empty();
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(snapshotKey(generation, verbType, period, month, LocalDate.now()));
+            if (json == null) {
+                return Optional.empty();
+            }
+            SnapshotEntry entry = objectMapper.readValue(json, SnapshotEntry.class);
+            return entry.cacheGeneration() >= minCacheGeneration ? Optional.of(entry.stats()) : Optional.empty();
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read stats snapshot: category={}, period={}, error={}", verbType.getVerbType(), period, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 주기적으로(기본 5분) 모든 조합의 통계를 계산하여 새 세대로 발행
+     * 여러 인스턴스 중 락을 획득한 하나만 계산
+     */
+    @Scheduled(cron = "${stats.snapshot.cron:0 */5 * * * *}")
+    public void publishSnapshots() {
+        redisLockManager.runExclusively(SNAPSHOT_LOCK, SNAPSHOT_LOCK_TTL, this::publish);
+    }
+
+    private void publish(Lease lease) {
+        long startedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+        if (generation == null) return;
+
+        Map<String, String> snapshots = new LinkedHashMap<>();
+        for (VerbType verbType : VerbType.values()) {
+            // 계산 전에 읽으므로, 계산 중 생성된 기록은 캐시 세대가 더 커져 스냅샷 대신 캐시로 반영됨
+            long cacheGeneration = recordStatsCache.currentGeneration(verbType);
+            for (String period : PERIODS) {
+                for (String month : months(period, today)) {
+                    AllUserRecordStatsRes stats = allUserRecordStatsCalculator.calculate(verbType, period, month);
+                    try {
+                        snapshots.put(snapshotKey(generation, verbType, period, month, today),
+                                objectMapper.writeValueAsString(new SnapshotEntry(cacheGeneration, stats)));
+                    } catch (JsonProcessingException e) {
+                        log.error("Failed to serialize stats snapshot: category={}, period={}", verbType.getVerbType(), period);
+                    }
+                }
+            }
+        }
+
+        // 계산 중 다른 인스턴스가 락을 가져갔다면 발행하지 않음
+        if (!lease.isHeld()) {
+            log.warn("Lock lost while computing stats snapshots, skipping generation {}", generation);
+            return;
+        }
+
+        // 모든 조합을 쓴 뒤에 현재 세대를 바꾸므로 조회 중인 세대는 항상 완전한 상태
+        // 현재 세대는 여전히 락을 보유한 경우에만 바꾸므로, 멈췄다가 재개된 이전 보유자가 세대를 되돌리지 않음
+        snapshots.forEach((key, json) -> redisTemplate.opsForValue().set(key, json, SNAPSHOT_TTL));
+        if (!redisLockManager.setIfHeld(lease, CURRENT_KEY, String.valueOf(generation))) {
+            log.warn("Lock lost before publishing stats snapshots, skipping generation {}", generation);
+            return;
+        }
+        redisTemplate.convertAndSend(PUBLISHED_CHANNEL, String.valueOf(generation));
+        updateGeneration(String.valueOf(generation));
+
+        log.info("✅ 통계 스냅샷 발행 완료! 세대: {}, 조합 개수: {}, 소요 시간: {}ms",
+                generation, snapshots.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private long currentGeneration() {
+        if (currentGeneration < 0) {
+            try {
+                String generation = redisTemplate.opsForValue().get(CURRENT_KEY);
+                updateGeneration(generation == null ? "0" : generation);
+            } catch (DataAccessException e) {
+                return 0L;
+            }
+        }
+        return currentGeneration;
+    }
+
+    private synchronized void updateGeneration(String generation) {
+        try {
+            currentGeneration = Math.max(currentGeneration, Long.parseLong(generation));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid stats snapshot generation: {}", generation);
+        }
+    }
+
+    // 월별은 이번 달부터 최근 RECENT_MONTHS개월, 나머지 기간은 월과 무관
+    private List<String> months(String period, LocalDate today) {
+        if (!"monthly".equals(period)) {
+            return List.of("-");
+        }
+        List<String> months = new ArrayList<>();
+        YearMonth current = YearMonth.from(today);
+        for (int i = 0; i < RECENT_MONTHS; i++) {
+            months.add(current.minusMonths(i).format(MONTH_FORMAT));
+        }
+        return months;
+    }
+
+    // 일간/주간 통계는 날짜에 따라 달라지므로 계산한 날짜를 포함
+    private String snapshotKey(long generation, VerbType verbType, String period, String month, LocalDate date) {
+        String monthPart = "monthly".equals(period) && month != null ? month.trim() : "-";
+        return SNAPSHOT_PREFIX + generation + ":" + verbType.getVerbType() + ":" + period + ":" + monthPart + ":" + date;
+    }
+}
@@ -0,0 +1,91 @@
+package com.movelog.domain.record.application;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 카테고리 단위 전체 사용자 기록 집계 결과
+ * 날짜별 기록 수와 상위 키워드 기록 수만 보관하며, 나머지 통계는 이 값에서 계산
+ */
+@Getter
+public class RecordStatsSummary {
+
+    private final NavigableMap<LocalDate, Integer> dailyRecords;
+    private final Map<String, Integer> topKeywords;
+
+    public RecordStatsSummary(Map<LocalDate, Integer> dailyRecords, Map<String, Integer> topKeywords) {
+        this.dailyRecords = Collections.unmodifiableNavigableMap(new TreeMap<>(dailyRecords));
+        this.topKeywords = Collections.unmodifiableMap(new LinkedHashMap<>(topKeywords));
+    }
+
+    public int getTotalRecords() {
+        return sum(dailyRecords);
+    }
+
+    /**
+     * 기록이 있는 날짜 기준 평균 일간 기록 (소수점 첫째 자리 반올림)
+     */
+    public double getAvgDailyRecord() {
+        if (dailyRecords.isEmpty()) return 0.0;
+        return Math.round((double) getTotalRecords() / dailyRecords.size() * 10) / 10.0;
+    }
+
+    /**
+     * 기록이 있는 날짜가 연속된 최대 일 수
+     */
+    public int getMaxConsecutiveDays() {
+        if (dailyRecords.isEmpty()) return 0;
+
+        int maxStreak = 1;
+        int currentStreak = 1;
+        LocalDate previous = null;
+
+        for (LocalDate date : dailyRecords.keySet()) {
+            if (previous != null) {
+                if (date.equals(previous.plusDays(1))) {
+                    currentStreak++;
+                    maxStreak = Math.max(maxStreak, currentStreak);
+                } else {
+                    currentStreak = 1;
+                }
+            }
+            previous = date;
+        }
+        return maxStreak;
+    }
+
+    /**
+     * 기간 내 기록 수 (from이 null이면 전체 기간)
+     */
+    public int countSince(LocalDate from) {
+        return sum(since(from));
+    }
+
+    /**
+     * 기간 내 하루 동안 가장 많이 기록된 횟수 (from이 null이면 전체 기간)
+     */
+    public int maxDailySince(LocalDate from) {
+        return since(from).values().stream().max(Integer::compareTo).orElse(0);
+    }
+
+    /**
+     * 기간 내 날짜별 기록 수
+     */
+    public Map<LocalDate, Integer> between(LocalDate from, LocalDate to) {
+        return new LinkedHashMap<>(dailyRecords.subMap(from, true, to, true));
+    }
+
+    private NavigableMap<LocalDate, Integer> since(LocalDate from) {
+        return from == null ? dailyRecords : dailyRecords.tailMap(from, true);
+    }
+
+    private int sum(Map<LocalDate, Integer> records) {
+        return records.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
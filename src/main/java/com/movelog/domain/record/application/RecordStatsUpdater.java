@@ -0,0 +1,104 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.event.RecordCreatedEvent;
+import com.movelog.domain.record.domain.event.UserRecordsDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordStatsUpdater {
+
+    // KEYS[1]: 재구성 watermark, KEYS[2]: 재구성 중 반영된 기록 ID, KEYS[3]: 활동 비트맵
+    // 이어서 기간 Key ARGV[3]개, 같은 순서의 shadow Key ARGV[3]개, 나머지는 HyperLogLog Key
+    // ARGV[1]: 명사, ARGV[2]: 기록 ID, ARGV[3]: 기간 Key 개수, ARGV[4]: 사용자 ID
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "local periods = tonumber(ARGV[3]) " +
+            "for i = 4, 3 + periods do redis.call('ZINCRBY', KEYS[i], 1, ARGV[1]) end " +
+            "local watermark = redis.call('GET', KEYS[1]) " +
+            "if watermark and tonumber(ARGV[2]) > tonumber(watermark) and redis.call('SADD', KEYS[2], ARGV[2]) == 1 then " +
+            "  for i = 4 + periods, 3 + 2 * periods do redis.call('ZINCRBY', KEYS[i], 1, ARGV[1]) end " +
+            "end " +
+            "for i = 4 + 2 * periods, #KEYS do redis.call('PFADD', KEYS[i], ARGV[4]) end " +
+            "redis.call('SETBIT', KEYS[3], ARGV[4], 1) " +
+            "return 1",
+            Long.class);
+
+    // KEYS[i]의 ARGV[2i - 1](명사) 점수를 ARGV[2i]만큼 차감하고, 0 이하가 되면 제거
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do " +
+            "  local score = redis.call('ZINCRBY', KEYS[i], -tonumber(ARGV[2 * i]), ARGV[2 * i - 1]) " +
+            "  if tonumber(score) <= 0 then redis.call('ZREM', KEYS[i], ARGV[2 * i - 1]) end " +
+            "end " +
+            "return #KEYS",
+            Long.class);
+    // 스크립트 한 번에 차감하는 (카테고리, 명사, 날짜) 개수
+    private static final int DECREMENT_BATCH_SIZE = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 기록 생성 트랜잭션 커밋 이후 기간별 통계 ZSET 갱신
+     * 일간/주간/월간/전체 Key와 명사/카테고리/활성 사용자 HyperLogLog, 날짜별 활동 비트맵을 하나의 스크립트로 원자적으로 반영
+     * 통계 재구성 중이면 (DataMigrationService) 재구성이 읽지 못했을 수 있는 기록을 shadow Key에도 반영하여 교체 시 유실되지 않도록 함
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordCreated(RecordCreatedEvent event) {
+        LocalDate actionDate = event.getActionTime().toLocalDate();
+        List<String> periodKeys = RecordStatsKeys.periodKeys(event.getVerbType(), actionDate);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(RecordStatsKeys.REBUILD_WATERMARK_KEY);
+        keys.add(RecordStatsKeys.REBUILD_APPLIED_KEY);
+        keys.add(RecordStatsKeys.activityKey(actionDate));
+        keys.addAll(periodKeys);
+        periodKeys.forEach(key -> keys.add(RecordStatsKeys.shadowKey(key)));
+        keys.addAll(RecordStatsKeys.userKeys(event.getVerbType(), event.getNoun(), actionDate));
+
+        try {
+            redisTemplate.execute(UPDATE_SCRIPT, keys, event.getNoun(), String.valueOf(event.getRecordId()),
+                    String.valueOf(periodKeys.size()), String.valueOf(event.getUserId()));
+        } catch (DataAccessException e) {
+            // 통계 반영 실패가 기록 생성 응답에 영향을 주지 않도록 로그만 남김
+            log.error("Failed to update stats for recordId={}: {}", event.getRecordId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 회원 탈퇴 커밋 이후 삭제된 기록만큼 기간별 통계 ZSET 차감
+     * 통계 재구성 중이면 shadow Key는 그대로 두므로, 재구성이 이미 읽은 기록은 교체 후에도 남을 수 있음 (다음 재구성에서 제외)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserRecordsDeleted(UserRecordsDeletedEvent event) {
+        List<UserRecordsDeletedEvent.DailyCount> dailyCounts = event.getDailyCounts();
+        for (int from = 0; from < dailyCounts.size(); from += DECREMENT_BATCH_SIZE) {
+            List<String> keys = new ArrayList<>();
+            List<String> args = new ArrayList<>();
+            for (UserRecordsDeletedEvent.DailyCount dailyCount : dailyCounts.subList(from, Math.min(from + DECREMENT_BATCH_SIZE, dailyCounts.size()))) {
+                for (String key : RecordStatsKeys.periodKeys(dailyCount.verbType(), dailyCount.actionDate())) {
+                    keys.add(key);
+                    args.add(dailyCount.noun());
+                    args.add(String.valueOf(dailyCount.count()));
+                }
+            }
+
+            try {
+                redisTemplate.execute(DECREMENT_SCRIPT, keys, args.toArray());
+            } catch (DataAccessException e) {
+                log.error("Failed to decrement stats for deleted userId={}: {}", event.getUserId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.event.RecordCreatedEvent;
+import com.movelog.domain.record.domain.repository.RecordRepository;
+import com.movelog.global.util.ThumbnailTarget;
+import com.movelog.global.util.ThumbnailUpdater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class RecordThumbnailUpdater implements ThumbnailTarget {
+
+    private final RecordRepository recordRepository;
+    private final ThumbnailUpdater thumbnailUpdater;
+
+    /**
+     * 기록 생성 트랜잭션 커밋 이후 기록 이미지 썸네일 생성
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordCreated(RecordCreatedEvent event) {
+        if (event.getImageObjectKey() != null) {
+            thumbnailUpdater.submit(this, event.getRecordId(), event.getImageObjectKey());
+        }
+    }
+
+    /**
+     * 이미지가 있지만 썸네일이 없는 기록 썸네일 재생성
+     */
+    @Scheduled(fixedDelayString = "${thumbnail.sweep.delay-ms:300000}")
+    public void sweepMissingThumbnails() {
+        thumbnailUpdater.sweep(this);
+    }
+
+    @Override
+    public String folder() {
+        return "record";
+    }
+
+    @Override
+    public List<Object[]> findMissingThumbnails(Long lastId, LocalDateTime createdBefore, Pageable pageable) {
+        return recordRepository.findMissingThumbnails(lastId, createdBefore, pageable);
+    }
+
+    @Override
+    public void updateThumbnails(Long id, String smallUrl, String mediumUrl) {
+        recordRepository.updateThumbnails(id, smallUrl, mediumUrl);
+    }
+}
@@ -0,0 +1,194 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.dto.response.RetentionPointRes;
+import com.movelog.domain.record.dto.response.RetentionRes;
+import com.movelog.domain.user.domain.event.UserCreatedEvent;
+import com.movelog.domain.user.domain.repository.UserRepository;
+import com.movelog.global.DefaultAssert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 가입 코호트 리텐션 (날짜별 사용자 비트맵의 BITOP AND/OR, BITCOUNT로 계산)
+ * 가입 비트맵은 사용자 생성 시, 활동 비트맵은 기록 생성 시(RecordStatsUpdater) 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetentionService {
+
+    public static final int MAX_DAYS = 30;
+    public static final int MAX_WEEKS = 12;
+    private static final String TEMP_PREFIX = "retention:tmp:";
+    private static final String COHORT_BACKFILL_KEY = "retention:cohort:backfilled";
+    private static final int BACKFILL_CHUNK_SIZE = 5000;
+
+    // 가입 비트맵들의 OR과 활동 비트맵들의 OR을 AND한 결과의 사용자 수
+    // KEYS[1], KEYS[2]: 임시 Key, KEYS[3..2+ARGV[1]]: 가입 비트맵, 나머지: 활동 비트맵
+    private static final RedisScript<Long> RETAINED_SCRIPT = new DefaultRedisScript<>(
+            "local cohorts = tonumber(ARGV[1]) " +
+            "redis.call('BITOP', 'OR', KEYS[1], unpack(KEYS, 3, 2 + cohorts)) " +
+            "redis.call('BITOP', 'OR', KEYS[2], unpack(KEYS, 3 + cohorts, #KEYS)) " +
+            "redis.call('BITOP', 'AND', KEYS[1], KEYS[1], KEYS[2]) " +
+            "local count = redis.call('BITCOUNT', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "return count",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자 생성 커밋 이후 가입일 비트맵에 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserCreated(UserCreatedEvent event) {
+        LocalDate signUpDate = event.getCreatedAt() == null ? LocalDate.now() : event.getCreatedAt().toLocalDate();
+        try {
+            redisTemplate.opsForValue().setBit(RecordStatsKeys.cohortKey(signUpDate), event.getUserId(), true);
+        } catch (DataAccessException e) {
+            log.error("Failed to update sign-up cohort for userId={}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 가입 비트맵이 채워진 적 없으면 사용자 테이블에서 한 번 채움
+     */
+    public void backfillCohortsIfMissing() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(COHORT_BACKFILL_KEY))) {
+            return;
+        }
+
+        long lastUserId = 0L;
+        long processed = 0L;
+        while (true) {
+            List<Object[]> rows = userRepository.findSignUpsAfter(lastUserId, PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+            if (rows.isEmpty()) break;
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Object[] row : rows) {
+                        if (row[1] == null) continue;
+                        LocalDate signUpDate = ((LocalDateTime) row[1]).toLocalDate();
+                        ops.opsForValue().setBit(RecordStatsKeys.cohortKey(signUpDate), (Long) row[0], true);
+                    }
+                    return null;
+                }
+            });
+
+            processed += rows.size();
+            lastUserId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        redisTemplate.opsForValue().set(COHORT_BACKFILL_KEY, String.valueOf(processed));
+        log.info("✅ 가입 코호트 비트맵 초기화 완료! 사용자 수: {}", processed);
+    }
+
+    /**
+     * 가입 주(월요일 시작) 코호트의 일별(가입 N일 후 기록), 주별(가입 N주 후 그 주에 기록) 리텐션
+     * 아직 오지 않은 날짜/주는 제외
+     */
+    public RetentionRes getRetention(LocalDate cohortDate, int days, int weeks) {
+        DefaultAssert.isTrue(days >= 1 && days <= MAX_DAYS, "days는 1~" + MAX_DAYS + " 사이여야 합니다.");
+        DefaultAssert.isTrue(weeks >= 1 && weeks <= MAX_WEEKS, "weeks는 1~" + MAX_WEEKS + " 사이여야 합니다.");
+
+        LocalDate today = LocalDate.now();
+        LocalDate cohortStart = (cohortDate == null ? today : cohortDate).with(DayOfWeek.MONDAY);
+        List<String> cohortKeys = dayKeys(cohortStart, RecordStatsKeys::cohortKey);
+
+        // 사용자마다 가입일은 하루이므로 날짜별 비트 수의 합이 코호트 크기
+        long[] signUpCounts = new long[cohortKeys.size()];
+        long cohortSize = 0L;
+        for (int i = 0; i < cohortKeys.size(); i++) {
+            byte[] cohortKey = cohortKeys.get(i).getBytes(StandardCharsets.UTF_8);
+            Long count = redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.stringCommands().bitCount(cohortKey));
+            signUpCounts[i] = count == null ? 0L : count;
+            cohortSize += signUpCounts[i];
+        }
+
+        // 가입일마다 N일 후 활동과 AND하여 합산, 비율은 N일이 지난 가입일의 사용자 수 대비
+        List<RetentionPointRes> dayRetention = new ArrayList<>();
+        for (int n = 1; n <= days && !cohortStart.plusDays(n).isAfter(today); n++) {
+            long retained = 0L;
+            long eligible = 0L;
+            for (int i = 0; i < 7; i++) {
+                LocalDate signUpDate = cohortStart.plusDays(i);
+                if (signUpDate.plusDays(n).isAfter(today)) break;
+                retained += countRetained(
+                        List.of(RecordStatsKeys.cohortKey(signUpDate)),
+                        List.of(RecordStatsKeys.activityKey(signUpDate.plusDays(n))));
+                eligible += signUpCounts[i];
+            }
+            dayRetention.add(toPoint(n, retained, eligible));
+        }
+
+        // 가입 주 전체와 N주 후 한 주 동안의 활동을 AND
+        List<RetentionPointRes> weekRetention = new ArrayList<>();
+        for (int n = 1; n <= weeks && !cohortStart.plusWeeks(n).isAfter(today); n++) {
+            long retained = countRetained(cohortKeys, dayKeys(cohortStart.plusWeeks(n), RecordStatsKeys::activityKey));
+            weekRetention.add(toPoint(n, retained, cohortSize));
+        }
+
+        return RetentionRes.builder()
+                .cohortStart(cohortStart)
+                .cohortEnd(cohortStart.plusDays(6))
+                .cohortSize(cohortSize)
+                .dayRetention(dayRetention)
+                .weekRetention(weekRetention)
+                .build();
+    }
+
+    private long countRetained(List<String> cohortKeys, List<String> activityKeys) {
+        String temp = TEMP_PREFIX + UUID.randomUUID();
+        List<String> keys = new ArrayList<>();
+        keys.add(temp + ":cohort");
+        keys.add(temp + ":activity");
+        keys.addAll(cohortKeys);
+        keys.addAll(activityKeys);
+
+        Long count = redisTemplate.execute(RETAINED_SCRIPT, keys, String.valueOf(cohortKeys.size()));
+        return count == null ? 0L : count;
+    }
+
+    // start부터 한 주(7일) 동안의 날짜별 Key
+    private List<String> dayKeys(LocalDate start, Function<LocalDate, String> keyOf) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            keys.add(keyOf.apply(start.plusDays(i)));
+        }
+        return keys;
+    }
+
+    private RetentionPointRes toPoint(int offset, long retained, long cohortSize) {
+        double rate = cohortSize == 0 ? 0.0 : Math.round((double) retained / cohortSize * 1000) / 10.0;
+        return RetentionPointRes.builder()
+                .offset(offset)
+                .retainedUsers(retained)
+                .rate(rate)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.movelog.domain.record.application;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 빈도 키 추적 (stream-summary)
+ * 최대 capacity개의 키만 보관하고, 가득 차면 가장 적게 센 키를 교체
+ * 같은 횟수의 키를 버킷으로 묶은 연결 리스트로 관리하므로 갱신은 O(1)
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화
+ */
+class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    // 교체된 키의 아직 반영하지 않은 횟수 (다음 drainDeltas에서 함께 반환)
+    private final Map<String, Long> evictedDeltas = new HashMap<>();
+    // 횟수 오름차순 버킷 리스트의 첫 버킷 (가장 적게 센 키들)
+    private Bucket minBucket;
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void offer(String key) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.size() < capacity ? new Counter(key) : replaceMin(key);
+            counters.put(key, counter);
+        }
+        increment(counter);
+    }
+
+    /**
+     * 마지막 호출 이후 늘어난 횟수 (교체된 키의 남은 횟수는 포함, 교체로 물려받은 횟수는 제외)
+     */
+    Map<String, Long> drainDeltas() {
+        Map<String, Long> deltas = new LinkedHashMap<>(evictedDeltas);
+        evictedDeltas.clear();
+        for (Counter counter : counters.values()) {
+            long count = counter.bucket.count;
+            if (count > counter.flushed) {
+                deltas.merge(counter.key, count - counter.flushed, Long::sum);
+                counter.flushed = count;
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 반영에 실패한 drainDeltas 결과를 되돌려 다음 drainDeltas에서 다시 반환
+     */
+    void restoreDeltas(Map<String, Long> deltas) {
+        deltas.forEach((key, delta) -> evictedDeltas.merge(key, delta, Long::sum));
+    }
+
+    // 가장 적게 센 키 하나를 새 키로 교체 (교체된 키의 남은 횟수는 보관, 횟수는 오차로 물려받고 이미 반영된 것으로 처리)
+    private Counter replaceMin(String key) {
+        Iterator<Counter> iterator = minBucket.counters.iterator();
+        Counter victim = iterator.next();
+        counters.remove(victim.key);
+        if (minBucket.count > victim.flushed) {
+            evictedDeltas.merge(victim.key, minBucket.count - victim.flushed, Long::sum);
+        }
+
+        victim.key = key;
+        victim.flushed = minBucket.count;
+        return victim;
+    }
+
+    private void increment(Counter counter) {
+        Bucket current = counter.bucket;
+        long target = current == null ? 1L : current.count + 1;
+        Bucket next = current == null ? minBucket : current.next;
+
+        Bucket destination;
+        if (next != null && next.count == target) {
+            destination = next;
+        } else {
+            destination = new Bucket(target);
+            link(current, destination, next);
+        }
+
+        if (current != null) {
+            current.counters.remove(counter);
+            if (current.counters.isEmpty()) {
+                unlink(current);
+            }
+        }
+        destination.counters.add(counter);
+        counter.bucket = destination;
+    }
+
+    private void link(Bucket previous, Bucket bucket, Bucket next) {
+        bucket.prev = previous;
+        bucket.next = next;
+        if (previous != null) {
+            previous.next = bucket;
+        } else {
+            minBucket = bucket;
+        }
+        if (next != null) {
+            next.prev = bucket;
+        }
+    }
+
+    private void unlink(Bucket bucket) {
+        if (bucket.prev != null) {
+            bucket.prev.next = bucket.next;
+        } else {
+            minBucket = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+    }
+
+    private static final class Counter {
+        private String key;
+        private long flushed;
+        private Bucket bucket;
+
+        private Counter(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Bucket {
+        private final long count;
+        private final LinkedHashSet<Counter> counters = new LinkedHashSet<>();
+        private Bucket prev;
+        private Bucket next;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.dto.response.StatsWarmUpRes;
+import com.movelog.global.lock.Lease;
+import com.movelog.global.lock.RedisLockManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 통계 워밍업 (집계 테이블 초기화, 연속 기록 재계산, Redis 통계 재구성, 순위 스냅샷, 기록 컬럼 저장소 적재)
+ * 애플리케이션 시작을 막지 않도록 백그라운드에서 실행하며, 완료 전까지 통계 API는 DB 집계로 응답
+ * 여러 인스턴스가 동시에 뜨면 락을 획득한 하나만 작업하고, 나머지는 해제를 기다린 뒤 (이미 완료된 단계는 건너뜀) 확인만 수행
+ * 실패하면 간격을 늘려 가며 재시도 (각 단계는 완료 표시가 있으면 건너뛰므로 처음부터 다시 실행해도 됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatsWarmUpService {
+
+    public enum Status { PENDING, RUNNING, READY, FAILED }
+
+    private record Step(String name, Runnable task) {}
+
+    private static final String WARM_UP_LOCK = "stats:warmup";
+    private static final Duration WARM_UP_LOCK_TTL = Duration.ofMinutes(1);
+    private static final long LOCK_WAIT_MILLIS = 5_000L;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 30_000L;
+    private static final long MAX_RETRY_DELAY_MILLIS = 10 * 60_000L;
+
+    private final RecordDailyRollupService recordDailyRollupService;
+    private final KeywordStreakService keywordStreakService;
+    private final CategoryStreakService categoryStreakService;
+    private final DataMigrationService dataMigrationService;
+    private final RecordColumnStore recordColumnStore;
+    private final RetentionService retentionService;
+    private final TopRecordsRankingService topRecordsRankingService;
+    @Qualifier("statsWarmUpExecutor")
+    private final ThreadPoolTaskExecutor statsWarmUpExecutor;
+    private final RedisLockManager redisLockManager;
+
+    private final AtomicReference<Status> status = new AtomicReference<>(Status.PENDING);
+    private final AtomicInteger completedSteps = new AtomicInteger();
+    private final AtomicInteger failedAttempts = new AtomicInteger();
+    private volatile String currentStep;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWarmUp() {
+        if (!status.compareAndSet(Status.PENDING, Status.RUNNING)) {
+            return;
+        }
+        statsWarmUpExecutor.execute(this::runWarmUp);
+    }
+
+    /**
+     * Redis 통계를 읽어도 되는지 여부
+     */
+    public boolean isReady() {
+        return status.get() == Status.READY;
+    }
+
+    public StatsWarmUpRes getStatus() {
+        return StatsWarmUpRes.builder()
+                .status(status.get().name())
+                .ready(isReady())
+                .currentStep(currentStep)
+                .completedSteps(completedSteps.get())
+                .totalSteps(steps(null).size())
+                .failedAttempts(failedAttempts.get())
+                .build();
+    }
+
+    // READY가 될 때까지 실패 시 간격을 두 배씩 (최대 10분) 늘려 가며 재시도
+    private void runWarmUp() {
+        long retryDelay = INITIAL_RETRY_DELAY_MILLIS;
+        while (!warmUp()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            log.warn("통계 워밍업 {}ms 후 재시도 (실패 {}회)", retryDelay, failedAttempts.get());
+            try {
+                Thread.sleep(retryDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MILLIS);
+        }
+    }
+
+    // 워밍업 1회 실행, 성공 여부 반환
+    private boolean warmUp() {
+        long startedAt = System.currentTimeMillis();
+        status.set(Status.RUNNING);
+        completedSteps.set(0);
+
+        try (Lease lease = awaitLock()) {
+            List<Step> steps = steps(lease);
+            for (Step step : steps) {
+                currentStep = step.name();
+                log.info("🔄 통계 워밍업 [{}/{}] {}", completedSteps.get() + 1, steps.size(), step.name());
+                step.task().run();
+                completedSteps.incrementAndGet();
+            }
+            currentStep = null;
+            status.set(Status.READY);
+            log.info("✅ 통계 워밍업 완료! 소요 시간: {}ms", System.currentTimeMillis() - startedAt);
+            return true;
+        } catch (RuntimeException e) {
+            status.set(Status.FAILED);
+            failedAttempts.incrementAndGet();
+            log.error("통계 워밍업 실패: step={}, error={}", currentStep, e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status.set(Status.FAILED);
+            log.warn("통계 워밍업 락 대기 중 중단됨");
+        }
+        return false;
+    }
+
+    // 다른 인스턴스가 워밍업 중이면 끝날 때까지 대기
+    private Lease awaitLock() throws InterruptedException {
+        while (true) {
+            Optional<Lease> lease = redisLockManager.tryAcquire(WARM_UP_LOCK, WARM_UP_LOCK_TTL);
+            if (lease.isPresent()) {
+                return lease.get();
+            }
+            currentStep = "다른 인스턴스의 워밍업 대기";
+            log.info("다른 인스턴스가 통계 워밍업 중이므로 대기");
+            Thread.sleep(LOCK_WAIT_MILLIS);
+        }
+    }
+
+    // 순서 의존: 기록 파생 컬럼 → 집계 테이블, 키워드 연속 기록 (기록 날짜 기반) → 카테고리 연속 기록 (집계 테이블 기반)
+    private List<Step> steps(Lease lease) {
+        return List.of(
+                new Step("기록 파생 컬럼 채우기", recordDailyRollupService::backfillRecordColumns),
+                new Step("일별 집계 테이블 초기화", recordDailyRollupService::backfillIfMissing),
+                new Step("키워드 연속 기록 재계산", keywordStreakService::rebuildIfMissing),
+                new Step("카테고리 연속 기록 재계산", categoryStreakService::rebuildIfMissing),
+                new Step("Redis 통계 재구성", () -> dataMigrationService.migrateDataToRedis(lease)),
+                new Step("가입 코호트 비트맵 초기화", retentionService::backfillCohortsIfMissing),
+                new Step("TOP 5 순위 스냅샷", topRecordsRankingService::takeSnapshotsIfMissing),
+                new Step("기록 컬럼 저장소 적재", recordColumnStore::loadIfEmpty)
+        );
+    }
+}
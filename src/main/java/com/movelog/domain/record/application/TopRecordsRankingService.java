@@ -0,0 +1,172 @@
+package com.movelog.domain.record.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.repository.RecordDailyRollupRepository;
+import com.movelog.global.lock.RedisLockManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * TOP 5 키워드 순위 스냅샷
+ * 정해진 주기(epoch)마다 순위를 ranking:{카테고리}:{epoch}에 저장하고, 직전 epoch 대비 순위 변화를 함께 기록
+ * 조회 시에는 현재 스냅샷만 읽음 (쓰기, 전체 집계 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TopRecordsRankingService {
+
+    private static final String RANKING_PREFIX = "ranking:";
+    private static final String CURRENT_SUFFIX = ":current";
+    private static final Duration SNAPSHOT_TTL = Duration.ofDays(2);
+    private static final DateTimeFormatter EPOCH_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final TypeReference<List<Map<String, Object>>> RANKING_TYPE = new TypeReference<>() {};
+    private static final String SNAPSHOT_LOCK = "stats:ranking";
+    private static final Duration SNAPSHOT_LOCK_TTL = Duration.ofMinutes(5);
+
+    private final RecordDailyRollupRepository recordDailyRollupRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisLockManager redisLockManager;
+    private final RecordDailyRollupService recordDailyRollupService;
+
+    /**
+     * 현재 epoch 순위 스냅샷 조회
+     */
+    public Optional<List<Map<String, Object>>> findCurrentRanking(VerbType verbType) {
+        String epoch = redisTemplate.opsForValue().get(currentKey(verbType));
+        if (epoch == null) {
+            return Optional.empty();
+        }
+        return readSnapshot(verbType, epoch);
+    }
+
+    /**
+     * 매 epoch(기본 매시 정각)마다 카테고리별 순위 스냅샷 생성
+     * 여러 인스턴스 중 락을 획득한 하나만 생성
+     */
+    @Scheduled(cron = "${stats.ranking.cron:0 0 * * * *}")
+    public void takeSnapshots() {
+        redisLockManager.runExclusively(SNAPSHOT_LOCK, SNAPSHOT_LOCK_TTL, lease -> takeSnapshotsForCurrentEpoch());
+    }
+
+    private void takeSnapshotsForCurrentEpoch() {
+        // 집계 테이블 초기 집계 전에는 일부 기록이 빠진 순위가 저장되지 않도록 건너뜀 (워밍업에서 초기 집계 후 생성)
+        if (!recordDailyRollupService.isBackfilled()) {
+            log.info("record_daily_rollup 초기 집계 전이므로 순위 스냅샷을 건너뜀");
+            return;
+        }
+        String epoch = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).format(EPOCH_FORMAT);
+        for (VerbType verbType : VerbType.values()) {
+            takeSnapshot(verbType, epoch);
+        }
+    }
+
+    /**
+     * 스냅샷이 없는 카테고리가 있으면 한 번 생성
+     */
+    public void takeSnapshotsIfMissing() {
+        boolean missing = Arrays.stream(VerbType.values())
+                .anyMatch(verbType -> !Boolean.TRUE.equals(redisTemplate.hasKey(currentKey(verbType))));
+        if (missing) {
+            takeSnapshots();
+        }
+    }
+
+    /**
+     * 키워드별 기록 수(내림차순)와 직전 순위로 응답용 순위 목록 생성
+     */
+    public List<Map<String, Object>> toRanking(Map<String, Integer> keywordCounts, Map<String, Integer> previousRankings) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        int rank = 1;
+        for (Map.Entry<String, Integer> entry : keywordCounts.entrySet()) {
+            String keyword = entry.getKey();
+            int newRank = rank++;
+            Integer oldRank = previousRankings.get(keyword); // 이전 순위 가져오기
+
+            // 순위 변화 계산
+            String trend;
+            if (oldRank == null) {
+                trend = "new"; // 새롭게 진입한 경우
+            } else if (newRank < oldRank) {
+                trend = "up"; // 순위 상승
+            } else if (newRank > oldRank) {
+                trend = "down"; // 순위 하락
+            } else {
+                trend = "same"; // 변화 없음
+            }
+
+            // 응답 데이터 구성
+            Map<String, Object> recordData = new HashMap<>();
+            recordData.put("rank", newRank);
+            recordData.put("keyword", keyword);
+            recordData.put("count", entry.getValue());
+            recordData.put("trend", trend);
+            result.add(recordData);
+        }
+        return result;
+    }
+
+    private void takeSnapshot(VerbType verbType, String epoch) {
+        String previousEpoch = redisTemplate.opsForValue().get(currentKey(verbType));
+        if (epoch.equals(previousEpoch)) {
+            return; // 이미 같은 epoch의 스냅샷이 있음
+        }
+
+        Map<String, Integer> keywordCounts = new LinkedHashMap<>();
+        for (Object[] row : recordDailyRollupRepository.sumByNoun(verbType, PageRequest.of(0, RecordStatsEngine.TOP_KEYWORD_LIMIT))) {
+            keywordCounts.put((String) row[0], ((Number) row[1]).intValue());
+        }
+
+        Map<String, Integer> previousRankings = new HashMap<>();
+        if (previousEpoch != null) {
+            readSnapshot(verbType, previousEpoch).ifPresent(previous -> previous.forEach(entry ->
+                    previousRankings.put((String) entry.get("keyword"), ((Number) entry.get("rank")).intValue())));
+        }
+
+        List<Map<String, Object>> ranking = toRanking(keywordCounts, previousRankings);
+        try {
+            redisTemplate.opsForValue().set(snapshotKey(verbType, epoch), objectMapper.writeValueAsString(ranking), SNAPSHOT_TTL);
+            redisTemplate.opsForValue().set(currentKey(verbType), epoch);
+            log.info("📊 Ranking snapshot saved: {} → {}", snapshotKey(verbType, epoch), ranking);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize ranking snapshot: category={}, error={}", verbType.getVerbType(), e.getMessage());
+        }
+    }
+
+    private Optional<List<Map<String, Object>>> readSnapshot(VerbType verbType, String epoch) {
+        String json = redisTemplate.opsForValue().get(snapshotKey(verbType, epoch));
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, RANKING_TYPE));
+        } catch (JsonProcessingException e) {
+            log.error("Error parsing ranking snapshot: epoch={}, error={}", epoch, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String snapshotKey(VerbType verbType, String epoch) {
+        return RANKING_PREFIX + verbType.getVerbType() + ":" + epoch;
+    }
+
+    private String currentKey(VerbType verbType) {
+        return RANKING_PREFIX + verbType.getVerbType() + CURRENT_SUFFIX;
+    }
+}
@@ -0,0 +1,128 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.event.RecordCreatedEvent;
+import com.movelog.domain.record.dto.response.TrendingKeywordRes;
+import com.movelog.global.DefaultAssert;
+import com.movelog.global.lock.RedisLockManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지금 뜨는(trending) 키워드
+ * 카테고리별 ZSET(trending:{카테고리})에 기록마다 e^(λ·(t - t0))만큼 더해, 최근 기록일수록 큰 점수를 갖도록 함
+ * 점수를 현재 시각 기준으로 환산하면 반감기(기본 6시간)마다 절반이 되는 기록 수가 되며,
+ * 점수가 계속 커지지 않도록 주기적으로 기준 시각 t0를 현재로 옮기며 재정규화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingKeywordService {
+
+    private static final String TRENDING_PREFIX = "trending:";
+    private static final String EPOCH_SUFFIX = ":epoch";
+    private static final double HALF_LIFE_SECONDS = Duration.ofHours(6).toSeconds();
+    private static final double LAMBDA = Math.log(2) / HALF_LIFE_SECONDS;
+    // 재정규화 시 현재 기준 점수가 이보다 작은 키워드는 제거
+    private static final double MIN_SCORE = 0.01;
+    private static final int MAX_KEYWORDS = 1000;
+    public static final int MAX_LIMIT = 100;
+    private static final String RENORMALIZE_LOCK = "stats:trending";
+    private static final Duration RENORMALIZE_LOCK_TTL = Duration.ofMinutes(1);
+
+    // KEYS[1]: ZSET, KEYS[2]: 기준 시각, ARGV[1]: 현재 시각(초), ARGV[2]: λ, ARGV[3]: 키워드
+    private static final RedisScript<String> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local t0 = redis.call('GET', KEYS[2]) " +
+            "if not t0 then t0 = ARGV[1] redis.call('SET', KEYS[2], t0) end " +
+            "local increment = math.exp(tonumber(ARGV[2]) * (tonumber(ARGV[1]) - tonumber(t0))) " +
+            "return redis.call('ZINCRBY', KEYS[1], increment, ARGV[3])",
+            String.class);
+
+    // KEYS[1]: ZSET, KEYS[2]: 기준 시각, ARGV[1]: 현재 시각(초), ARGV[2]: λ, ARGV[3]: 최소 점수, ARGV[4]: 최대 키워드 수
+    private static final RedisScript<Long> RENORMALIZE_SCRIPT = new DefaultRedisScript<>(
+            "local t0 = redis.call('GET', KEYS[2]) " +
+            "if not t0 then return 0 end " +
+            "local factor = math.exp(-tonumber(ARGV[2]) * (tonumber(ARGV[1]) - tonumber(t0))) " +
+            "redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[4]) - 1) " +
+            "redis.call('SET', KEYS[2], ARGV[1]) " +
+            "return redis.call('ZCARD', KEYS[1])",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockManager redisLockManager;
+
+    /**
+     * 기록 생성 커밋 이후 키워드 점수 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordCreated(RecordCreatedEvent event) {
+        if (event.getVerbType() == null) return;
+
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, keys(event.getVerbType()),
+                    String.valueOf(Instant.now().getEpochSecond()), String.valueOf(LAMBDA), event.getNoun());
+        } catch (DataAccessException e) {
+            log.error("Failed to update trending score for recordId={}: {}", event.getRecordId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 매시 30분 점수를 현재 기준으로 재정규화하고 작은 점수 정리 (한 인스턴스만 실행)
+     */
+    @Scheduled(cron = "${stats.trending.renormalize-cron:0 30 * * * *}")
+    public void renormalize() {
+        redisLockManager.runExclusively(RENORMALIZE_LOCK, RENORMALIZE_LOCK_TTL, lease -> {
+            String now = String.valueOf(Instant.now().getEpochSecond());
+            for (VerbType verbType : VerbType.values()) {
+                Long size = redisTemplate.execute(RENORMALIZE_SCRIPT, keys(verbType),
+                        now, String.valueOf(LAMBDA), String.valueOf(MIN_SCORE), String.valueOf(MAX_KEYWORDS));
+                log.info("Trending scores renormalized: category={}, keywords={}", verbType.getVerbType(), size);
+            }
+        });
+    }
+
+    /**
+     * 현재 뜨는 키워드 (점수는 현재 시각 기준으로 환산한 감쇠 기록 수)
+     */
+    public List<TrendingKeywordRes> getTrendingKeywords(String category, int limit) {
+        DefaultAssert.isTrue(limit >= 1 && limit <= MAX_LIMIT, "limit은 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        VerbType verbType = VerbType.fromValue(category);
+        List<String> keys = keys(verbType);
+
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(keys.get(0), 0, limit - 1L);
+        String t0 = redisTemplate.opsForValue().get(keys.get(1));
+        if (tuples == null || tuples.isEmpty() || t0 == null) {
+            return List.of();
+        }
+
+        double decay = Math.exp(-LAMBDA * (Instant.now().getEpochSecond() - Long.parseLong(t0)));
+        return tuples.stream()
+                .filter(tuple -> tuple.getScore() != null)
+                .map(tuple -> TrendingKeywordRes.builder()
+                        .keyword(tuple.getValue())
+                        .score(Math.round(tuple.getScore() * decay * 100) / 100.0)
+                        .build())
+                .toList();
+    }
+
+    private List<String> keys(VerbType verbType) {
+        String key = TRENDING_PREFIX + verbType.getVerbType();
+        return List.of(key, key + EPOCH_SUFFIX);
+    }
+}
@@ -0,0 +1,93 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.dto.response.ActiveUserRes;
+import com.movelog.domain.record.dto.response.ActiveUserSummaryRes;
+import com.movelog.domain.record.dto.response.KeywordReachRes;
+import com.movelog.global.DefaultAssert;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 고유 사용자 수 통계 (날짜별 HyperLogLog를 PFCOUNT로 합산, 오차 약 0.81%)
+ * 여러 날짜 Key를 한 번의 PFCOUNT로 넘기면 합집합 크기를 계산하므로 임의 기간도 Key 개수만큼만 읽음
+ */
+@Service
+@RequiredArgsConstructor
+public class UniqueUserStatsService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 기간 내 기록한 사용자 수 (카테고리를 지정하면 해당 카테고리만)
+     */
+    public ActiveUserRes getActiveUsers(LocalDate from, LocalDate to, String category) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end : from;
+
+        long activeUsers;
+        if (category == null || category.isBlank()) {
+            activeUsers = countUsers(start, end, RecordStatsKeys::activeUsersKey);
+        } else {
+            VerbType verbType = VerbType.fromValue(category);
+            activeUsers = countUsers(start, end, date -> RecordStatsKeys.categoryUsersKey(verbType, date));
+        }
+
+        return ActiveUserRes.builder()
+                .category(category)
+                .from(start)
+                .to(end)
+                .activeUsers(activeUsers)
+                .build();
+    }
+
+    /**
+     * 오늘 기준 DAU/WAU/MAU (최근 1일/7일/30일)
+     */
+    public ActiveUserSummaryRes getActiveUserSummary() {
+        LocalDate today = LocalDate.now();
+
+        return ActiveUserSummaryRes.builder()
+                .dau(countUsers(today, today, RecordStatsKeys::activeUsersKey))
+                .wau(countUsers(today.minusDays(6), today, RecordStatsKeys::activeUsersKey))
+                .mau(countUsers(today.minusDays(29), today, RecordStatsKeys::activeUsersKey))
+                .build();
+    }
+
+    /**
+     * 기간 내 명사를 기록한 사용자 수
+     */
+    public KeywordReachRes getKeywordReach(String keyword, LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(29) : from;
+
+        return KeywordReachRes.builder()
+                .keyword(keyword)
+                .from(start)
+                .to(end)
+                .uniqueUsers(countUsers(start, end, date -> RecordStatsKeys.nounUsersKey(keyword, date)))
+                .build();
+    }
+
+    private long countUsers(LocalDate from, LocalDate to, Function<LocalDate, String> keyOf) {
+        DefaultAssert.isTrue(!from.isAfter(to), "조회 시작일은 종료일보다 늦을 수 없습니다.");
+        DefaultAssert.isTrue(ChronoUnit.DAYS.between(from, to) < MAX_RANGE_DAYS, "조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+
+        List<String> keys = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            keys.add(keyOf.apply(date));
+        }
+
+        Long count = redisTemplate.opsForHyperLogLog().size(keys.toArray(String[]::new));
+        return count == null ? 0L : count;
+    }
+}
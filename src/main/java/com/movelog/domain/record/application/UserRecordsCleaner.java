@@ -0,0 +1,58 @@
+package com.movelog.domain.record.application;
+
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.event.UserRecordsDeletedEvent;
+import com.movelog.domain.record.domain.repository.KeywordStreakRepository;
+import com.movelog.domain.record.domain.repository.RecordDailyRollupRepository;
+import com.movelog.domain.record.domain.repository.RecordRepository;
+import com.movelog.domain.user.domain.event.UserDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 회원 탈퇴로 삭제되는 기록을 통계에서 제외
+ * 탈퇴 트랜잭션 안에서 기록이 삭제되기 전에 일별 집계를 차감하고 키워드 연속 기록을 삭제하며,
+ * 커밋 이후 처리(Redis 통계, 카테고리 연속 기록, 기록 컬럼 저장소)는 UserRecordsDeletedEvent로 전달
+ * 사용자 수 HyperLogLog, 활동/가입 비트맵과 감쇠되는 인기/트렌딩 점수는 과거 이력으로 보고 차감하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserRecordsCleaner {
+
+    private final RecordRepository recordRepository;
+    private final RecordDailyRollupRepository recordDailyRollupRepository;
+    private final KeywordStreakRepository keywordStreakRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserDeleted(UserDeletedEvent event) {
+        Long userId = event.getUserId();
+        List<UserRecordsDeletedEvent.DailyCount> dailyCounts = recordRepository.countDailyByKeywordUserId(userId).stream()
+                .map(row -> new UserRecordsDeletedEvent.DailyCount(
+                        (VerbType) row[0], (String) row[1], (LocalDate) row[2], ((Number) row[3]).longValue()))
+                .toList();
+        if (dailyCounts.isEmpty()) {
+            return;
+        }
+
+        recordDailyRollupRepository.decrementByUserId(userId);
+        recordDailyRollupRepository.deleteEmptyByUserId(userId);
+        keywordStreakRepository.deleteByKeywordUserId(userId);
+
+        eventPublisher.publishEvent(UserRecordsDeletedEvent.builder()
+                .userId(userId)
+                .dailyCounts(dailyCounts)
+                .build());
+        log.info("탈퇴한 사용자의 기록을 통계에서 제외: userId={}, (카테고리, 명사, 날짜) 개수: {}", userId, dailyCounts.size());
+    }
+}
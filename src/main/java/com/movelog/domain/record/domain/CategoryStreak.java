@@ -0,0 +1,38 @@
+package com.movelog.domain.record.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 카테고리(했어요/먹었어요/갔어요)별 전체 사용자 연속 기록 상태
+ */
+@Entity
+@Table(name = "category_streak")
+@NoArgsConstructor
+@Getter
+public class CategoryStreak {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "verb_type", updatable = false)
+    private VerbType verbType;
+
+    @Embedded
+    private Streak streak = new Streak();
+
+    public CategoryStreak(VerbType verbType) {
+        this.verbType = verbType;
+    }
+
+    /**
+     * 기록 날짜 목록(오름차순)으로 상태를 처음부터 다시 계산
+     */
+    public void rebuild(List<LocalDate> activeDates) {
+        this.streak = new Streak();
+        activeDates.forEach(streak::record);
+    }
+}
@@ -12,11 +12,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "Keyword")
+@Table(name = "Keyword",
+        uniqueConstraints = @UniqueConstraint(name = Keyword.UNIQUE_CONSTRAINT, columnNames = {"user_id", "keyword", "verb_type"}))
 @NoArgsConstructor
 @Getter
 public class Keyword extends BaseEntity {
 
+    // 키워드 생성(ON DUPLICATE KEY)이 의존하는 (사용자, 명사, 카테고리) 유니크 제약
+    public static final String UNIQUE_CONSTRAINT = "uk_keyword_user_keyword_verb_type";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "keyword_id", updatable = false)
@@ -0,0 +1,26 @@
+package com.movelog.domain.record.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키워드(동사-명사 쌍)별 연속 기록 상태
+ */
+@Entity
+@Table(name = "keyword_streak")
+@NoArgsConstructor
+@Getter
+public class KeywordStreak {
+
+    @Id
+    @Column(name = "keyword_id", updatable = false)
+    private Long keywordId;
+
+    @Embedded
+    private Streak streak = new Streak();
+
+    public KeywordStreak(Long keywordId) {
+        this.keywordId = keywordId;
+    }
+}
@@ -1,16 +1,23 @@
 package com.movelog.domain.record.domain;
 
 import com.movelog.domain.common.BaseEntity;
-import com.movelog.domain.user.domain.User;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "record")
+@Table(name = "record",
+        indexes = {
+                @Index(name = "idx_record_action_date", columnList = "action_date"),
+                @Index(name = "idx_record_keyword_action_date", columnList = "keyword_id, action_date"),
+                @Index(name = "idx_record_keyword_action_time", columnList = "keyword_id, action_time"),
+                @Index(name = "idx_record_user_action_time", columnList = "user_id, action_time, verb_type"),
+                @Index(name = "idx_record_user_verb_type_action_time", columnList = "user_id, verb_type, action_time")
+        })
 @NoArgsConstructor
 @Getter
 public class Record extends BaseEntity {
@@ -24,16 +31,39 @@ public class Record extends BaseEntity {
     @JoinColumn(name = "keyword_id")
     private Keyword keyword;
 
+    // 키워드의 사용자, 카테고리 (keyword와 조인하지 않고 사용자/카테고리로 조회하기 위해 복사해 둠, 키워드 생성 후 바뀌지 않음)
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "verb_type")
+    private VerbType verbType;
+
     @Column(name = "record_image")
     private String recordImage;
 
+    // 기록 이미지 썸네일 (긴 변 256px, 768px), 업로드 후 비동기로 채워지며 생성 전에는 null
+    @Column(name = "thumbnail_small_image")
+    private String thumbnailSmallImage;
+
+    @Column(name = "thumbnail_medium_image")
+    private String thumbnailMediumImage;
+
     @Column(name = "action_time")
     private java.time.LocalDateTime actionTime;
 
+    // action_time의 날짜 (날짜별 집계 시 DATE(action_time) 대신 인덱스로 범위 조회)
+    @Column(name = "action_date")
+    private LocalDate actionDate;
+
+    // userId, verbType을 넘기지 않으면 키워드에서 가져옴 (키워드 ID만 아는 경우 프록시를 초기화하지 않도록 직접 넘김)
     @Builder
-    public Record(Keyword keyword, String recordImage) {
+    public Record(Keyword keyword, Long userId, VerbType verbType, String recordImage) {
         this.keyword = keyword;
+        this.userId = userId != null ? userId : keyword.getUser().getId();
+        this.verbType = verbType != null ? verbType : keyword.getVerbType();
         this.recordImage = recordImage;
         this.actionTime = actionTime == null? LocalDateTime.now():actionTime;
+        this.actionDate = this.actionTime.toLocalDate();
     }
 }
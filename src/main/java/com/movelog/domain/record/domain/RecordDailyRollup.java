@@ -0,0 +1,46 @@
+package com.movelog.domain.record.domain;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * (카테고리, 명사, 날짜) 단위 기록 수 집계 테이블
+ * 기록 생성 트랜잭션 안에서 함께 증가하며, 통계 조회 시 record 테이블 대신 사용
+ */
+@Entity
+@Table(name = "record_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_record_daily_rollup", columnNames = {"verb_type", "keyword", "rollup_date"}))
+@NoArgsConstructor
+@Getter
+public class RecordDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id", updatable = false)
+    private Long rollupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "verb_type", nullable = false)
+    private VerbType verbType;
+
+    @Column(name = "keyword", nullable = false)
+    private String keyword; // 명사
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "record_count", nullable = false)
+    private long recordCount;
+
+    @Builder
+    public RecordDailyRollup(VerbType verbType, String keyword, LocalDate rollupDate, long recordCount) {
+        this.verbType = verbType;
+        this.keyword = keyword;
+        this.rollupDate = rollupDate;
+        this.recordCount = recordCount;
+    }
+}
@@ -0,0 +1,43 @@
+package com.movelog.domain.record.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 연속 기록 상태 (현재 연속 일수, 최고 연속 일수, 마지막 기록 날짜)
+ * 날짜가 바뀔 때만 O(1)로 갱신
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+public class Streak {
+
+    @Column(name = "current_streak", nullable = false)
+    private int currentStreak;
+
+    @Column(name = "best_streak", nullable = false)
+    private int bestStreak;
+
+    @Column(name = "last_active_date")
+    private LocalDate lastActiveDate;
+
+    /**
+     * 기록 날짜 반영
+     * 마지막 기록 날짜와 같거나 이전 날짜는 무시하며, 상태가 바뀐 경우 true 반환
+     */
+    public boolean record(LocalDate date) {
+        if (lastActiveDate != null && !date.isAfter(lastActiveDate)) {
+            return false;
+        }
+
+        boolean consecutive = lastActiveDate != null && date.equals(lastActiveDate.plusDays(1));
+        this.currentStreak = consecutive ? currentStreak + 1 : 1;
+        this.bestStreak = Math.max(bestStreak, currentStreak);
+        this.lastActiveDate = date;
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.movelog.domain.record.domain.event;
+
+import com.movelog.domain.record.domain.VerbType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 생성 이벤트 (커밋 이후 통계 갱신, 썸네일 생성용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RecordCreatedEvent {
+
+    private final Long recordId;
+
+    private final Long userId;
+
+    private final Long keywordId;
+
+    private final String noun;
+
+    private final VerbType verbType;
+
+    private final LocalDateTime actionTime;
+
+    // 기록 이미지의 S3 객체 Key (이미지가 없으면 null, 썸네일 생성용)
+    private final String imageObjectKey;
+
+}
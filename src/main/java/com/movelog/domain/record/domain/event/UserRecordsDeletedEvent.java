@@ -0,0 +1,26 @@
+package com.movelog.domain.record.domain.event;
+
+import com.movelog.domain.record.domain.VerbType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 회원 탈퇴로 기록이 삭제된 이벤트 (커밋 이후 Redis 통계, 연속 기록, 기록 컬럼 저장소에서 제외용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserRecordsDeletedEvent {
+
+    private final Long userId;
+
+    // 삭제된 기록의 (카테고리, 명사, 날짜)별 개수
+    private final List<DailyCount> dailyCounts;
+
+    public record DailyCount(VerbType verbType, String noun, LocalDate actionDate, long count) {}
+
+}
@@ -0,0 +1,50 @@
+package com.movelog.domain.record.domain.repository;
+
+import com.movelog.domain.record.domain.CategoryStreak;
+import com.movelog.domain.record.domain.VerbType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface CategoryStreakRepository extends JpaRepository<CategoryStreak, VerbType> {
+
+    @Query("SELECT c.streak.lastActiveDate FROM CategoryStreak c WHERE c.verbType = :verbType")
+    Optional<LocalDate> findLastActiveDate(@Param("verbType") VerbType verbType);
+
+    @Query("SELECT c.streak.bestStreak FROM CategoryStreak c WHERE c.verbType = :verbType")
+    Optional<Integer> findBestStreak(@Param("verbType") VerbType verbType);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CategoryStreak c WHERE c.verbType = :verbType")
+    Optional<CategoryStreak> findForUpdate(@Param("verbType") VerbType verbType);
+
+    // 기록 날짜 반영 (없으면 생성), Streak.record와 같은 규칙을 한 문장으로 적용하여 동시에 첫 기록이 생겨도 충돌하지 않음
+    // 재계산 결과 기록 날짜가 없는 행(last_active_date NULL)은 새로 시작
+    @Modifying
+    @Query(value = """
+    INSERT INTO category_streak (verb_type, current_streak, best_streak, last_active_date)
+    VALUES (:verbType, 1, 1, :date)
+    ON DUPLICATE KEY UPDATE
+        current_streak = IF(last_active_date IS NULL OR :date > last_active_date,
+                            IF(:date = DATE_ADD(last_active_date, INTERVAL 1 DAY), current_streak + 1, 1),
+                            current_streak),
+        best_streak = GREATEST(best_streak, current_streak),
+        last_active_date = IF(last_active_date IS NULL, :date, GREATEST(last_active_date, :date))
+    """, nativeQuery = true)
+    void record(@Param("verbType") String verbType, @Param("date") LocalDate date);
+
+    // 재계산 전에 행이 없으면 빈 상태로 생성 (기록 생성과 동시에 INSERT해도 충돌하지 않도록 IGNORE)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO category_streak (verb_type, current_streak, best_streak) VALUES (:verbType, 0, 0)",
+            nativeQuery = true)
+    void insertIfMissing(@Param("verbType") String verbType);
+
+}
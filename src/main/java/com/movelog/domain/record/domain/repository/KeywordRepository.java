@@ -2,9 +2,9 @@ package com.movelog.domain.record.domain.repository;
 
 import com.movelog.domain.record.domain.Keyword;
 import com.movelog.domain.record.domain.Record;
-import com.movelog.domain.record.domain.VerbType;
 import com.movelog.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,12 +19,56 @@ public interface KeywordRepository extends JpaRepository<Keyword,Long> {
 
     List<Keyword> findTop5ByUserOrderByCreatedAtDesc(User user);
 
-    boolean existsByUserAndKeywordAndVerbType(User user, String noun, VerbType verbType);
+    // (사용자, 명사, 카테고리) 키워드가 없으면 생성하고, 있으면 기존 행의 ID를 LAST_INSERT_ID로 지정
+    @Modifying
+    @Query(value = """
+    INSERT INTO keyword (user_id, keyword, verb_type, status, created_at, updated_at)
+    VALUES (:userId, :keyword, :verbType, 'ACTIVE', :now, :now)
+    ON DUPLICATE KEY UPDATE keyword_id = LAST_INSERT_ID(keyword_id)
+    """, nativeQuery = true)
+    void upsert(@Param("userId") Long userId, @Param("keyword") String keyword,
+                @Param("verbType") String verbType, @Param("now") LocalDateTime now);
 
-    Keyword findByUserAndKeywordAndVerbType(User user, String noun, VerbType verbType);
+    // 같은 커넥션에서 직전 upsert로 생성되거나 찾은 키워드 ID
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Number findLastInsertId();
 
     List<Keyword> findAllByUserAndKeywordContaining(User user, String keyword);
 
+    // (사용자, 명사, 카테고리) 유니크 제약이 스키마에 있는지 확인 (0이면 없음)
+    @Query(value = "SELECT COUNT(*) FROM information_schema.table_constraints " +
+            "WHERE table_schema = SCHEMA() " +
+            "AND LOWER(table_name) = 'keyword' " +
+            "AND UPPER(constraint_name) = UPPER('" + Keyword.UNIQUE_CONSTRAINT + "')",
+            nativeQuery = true)
+    long countUniqueConstraints();
+
+    // 유니크 제약 이전에 생긴 중복 키워드 ID와 합칠 대상(같은 사용자, 명사, 카테고리 중 가장 작은 ID)
+    @Query(value = """
+    SELECT k.keyword_id, d.keep_id
+    FROM keyword k
+    JOIN (SELECT user_id, keyword, verb_type, MIN(keyword_id) AS keep_id
+          FROM keyword
+          GROUP BY user_id, keyword, verb_type
+          HAVING COUNT(*) > 1) d
+      ON k.user_id = d.user_id AND k.keyword = d.keyword AND k.verb_type = d.verb_type
+    WHERE k.keyword_id <> d.keep_id
+    ORDER BY k.keyword_id ASC
+    """, nativeQuery = true)
+    List<Object[]> findDuplicateKeywordIds();
+
+    // 중복 키워드를 정리한 뒤 유니크 제약 추가 (중복이 남아 있으면 실패)
+    @Modifying
+    @Query(value = "ALTER TABLE keyword ADD CONSTRAINT " + Keyword.UNIQUE_CONSTRAINT + " UNIQUE (user_id, keyword, verb_type)",
+            nativeQuery = true)
+    void addUniqueConstraint();
+
+    // 키워드 ID 기준 keyset 페이지를 잠그며 조회 (연속 기록 재계산용)
+    // 기록 INSERT는 외래 키 확인 시 키워드 행에 공유 락을 잡으므로, 잠근 키워드의 기록 생성은 트랜잭션이 끝날 때까지 대기
+    @Query(value = "SELECT keyword_id FROM keyword WHERE keyword_id > :lastKeywordId ORDER BY keyword_id ASC LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockKeywordIdsAfter(@Param("lastKeywordId") Long lastKeywordId, @Param("limit") int limit);
+
 
     // 사용자가 기록한 것 중 동일한 keyword(명사)를 가진 Keyword 리스트 조회
     @Query("SELECT k FROM Keyword k WHERE k.user.id = :userId AND k.keyword = :keyword")
@@ -39,9 +83,13 @@ public interface KeywordRepository extends JpaRepository<Keyword,Long> {
     Optional<LocalDateTime> findLastRecordedAtByKeywordIds(@Param("keywordIds") List<Long> keywordIds);
 
     // 특정 키워드 ID 목록에 해당하는 일일 평균 기록 수 계산
-    @Query("SELECT COUNT(r), DATE(r.actionTime) FROM Record r WHERE r.keyword.keywordId IN :keywordIds GROUP BY DATE(r.actionTime)")
+    @Query("SELECT COUNT(r), r.actionDate FROM Record r WHERE r.keyword.keywordId IN :keywordIds GROUP BY r.actionDate")
     List<Object[]> calculateAvgDailyRecordsByKeywordIds(@Param("keywordIds") List<Long> keywordIds);
 
+    // 파생 컬럼(action_date)이 채워지기 전에 사용하는 기록 시간 기준 버전
+    @Query("SELECT COUNT(r), DATE(r.actionTime) FROM Record r WHERE r.keyword.keywordId IN :keywordIds GROUP BY DATE(r.actionTime)")
+    List<Object[]> calculateAvgDailyRecordsByKeywordIdsOnActionTime(@Param("keywordIds") List<Long> keywordIds);
+
     // 특정 키워드 ID 목록에 해당하는 최근 7일간 평균 기록 수 계산
     @Query("SELECT COUNT(r) FROM Record r WHERE r.keyword.keywordId IN :keywordIds AND r.actionTime >= :startDate")
     long calculateAvgWeeklyRecordsByKeywordIds(@Param("keywordIds") List<Long> keywordIds, @Param("startDate") LocalDateTime startDate);
@@ -0,0 +1,48 @@
+package com.movelog.domain.record.domain.repository;
+
+import com.movelog.domain.record.domain.KeywordStreak;
+import com.movelog.domain.record.domain.VerbType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface KeywordStreakRepository extends JpaRepository<KeywordStreak, Long> {
+
+    // 사용자의 동사-명사 쌍에 대한 현재 연속 기록 일수 (마지막 기록 날짜가 since 이전이면 끊긴 것으로 보고 제외)
+    // 중복 키워드가 남아 있어도 한 행만 반환하도록 MAX로 집계
+    @Query("SELECT MAX(s.streak.currentStreak) " +
+            "FROM KeywordStreak s, Keyword k " +
+            "WHERE s.keywordId = k.keywordId " +
+            "AND k.user.id = :userId AND k.keyword = :noun AND k.verbType = :verbType " +
+            "AND s.streak.lastActiveDate >= :since")
+    Optional<Integer> findCurrentStreak(@Param("userId") Long userId, @Param("noun") String noun,
+                                        @Param("verbType") VerbType verbType, @Param("since") LocalDate since);
+
+    // 기록 날짜 반영 (없으면 생성), Streak.record와 같은 규칙을 한 문장으로 적용하여 동시에 첫 기록이 생겨도 충돌하지 않음
+    // ON DUPLICATE KEY UPDATE는 왼쪽부터 적용되므로 best_streak은 갱신된 current_streak과 비교
+    @Modifying
+    @Query(value = """
+    INSERT INTO keyword_streak (keyword_id, current_streak, best_streak, last_active_date)
+    VALUES (:keywordId, 1, 1, :date)
+    ON DUPLICATE KEY UPDATE
+        current_streak = IF(:date > last_active_date,
+                            IF(:date = DATE_ADD(last_active_date, INTERVAL 1 DAY), current_streak + 1, 1),
+                            current_streak),
+        best_streak = GREATEST(best_streak, current_streak),
+        last_active_date = GREATEST(last_active_date, :date)
+    """, nativeQuery = true)
+    void record(@Param("keywordId") Long keywordId, @Param("date") LocalDate date);
+
+    // 사용자 키워드의 연속 기록 삭제 (회원 탈퇴 트랜잭션에 참여, 키워드가 삭제되기 전에 호출)
+    @Modifying
+    @Query(value = "DELETE s FROM keyword_streak s JOIN keyword k ON s.keyword_id = k.keyword_id WHERE k.user_id = :userId",
+            nativeQuery = true)
+    int deleteByKeywordUserId(@Param("userId") Long userId);
+
+}
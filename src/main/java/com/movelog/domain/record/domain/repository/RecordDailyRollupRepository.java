@@ -0,0 +1,114 @@
+package com.movelog.domain.record.domain.repository;
+
+import com.movelog.domain.record.domain.RecordDailyRollup;
+import com.movelog.domain.record.domain.VerbType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RecordDailyRollupRepository extends JpaRepository<RecordDailyRollup, Long> {
+
+    // (카테고리, 명사, 날짜) 집계 행을 1 증가 (없으면 생성)
+    @Modifying
+    @Query(value = """
+    INSERT INTO record_daily_rollup (verb_type, keyword, rollup_date, record_count)
+    VALUES (:verbType, :keyword, :rollupDate, 1)
+    ON DUPLICATE KEY UPDATE record_count = record_count + 1
+    """, nativeQuery = true)
+    void increment(@Param("verbType") String verbType, @Param("keyword") String keyword, @Param("rollupDate") LocalDate rollupDate);
+
+    // 기간 내 record 테이블을 다시 세어 집계 행을 덮어씀 (호출마다 별도 트랜잭션)
+    // REPEATABLE READ에서 INSERT ... SELECT는 읽은 기록 범위를 잠그므로, 같은 기간의 기록 생성은 재집계가 끝난 뒤 증가됨
+    // idx_record_action_date로 해당 기간만 범위 검색하므로 다른 기간의 기록 생성은 기다리지 않음
+    @Transactional
+    @Modifying
+    @Query(value = """
+    INSERT INTO record_daily_rollup (verb_type, keyword, rollup_date, record_count)
+    SELECT k.verb_type, k.keyword, r.action_date, COUNT(*)
+    FROM record r
+    JOIN keyword k ON r.keyword_id = k.keyword_id
+    WHERE r.action_date BETWEEN :startDate AND :endDate
+    GROUP BY k.verb_type, k.keyword, r.action_date
+    ON DUPLICATE KEY UPDATE record_count = VALUES(record_count)
+    """, nativeQuery = true)
+    int recomputeBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 사용자의 기록만큼 집계 행을 차감 (회원 탈퇴 트랜잭션에 참여, 기록이 삭제되기 전에 호출)
+    // 파생 컬럼이 비어 있을 수 있으므로 키워드를 조인하고 기록 시간으로 날짜를 구함
+    @Modifying
+    @Query(value = """
+    UPDATE record_daily_rollup d
+    JOIN (
+        SELECT k.verb_type, k.keyword, DATE(r.action_time) AS action_date, COUNT(*) AS record_count
+        FROM record r
+        JOIN keyword k ON r.keyword_id = k.keyword_id
+        WHERE k.user_id = :userId
+        GROUP BY k.verb_type, k.keyword, DATE(r.action_time)
+    ) u ON d.verb_type = u.verb_type AND d.keyword = u.keyword AND d.rollup_date = u.action_date
+    SET d.record_count = d.record_count - u.record_count
+    """, nativeQuery = true)
+    int decrementByUserId(@Param("userId") Long userId);
+
+    // 차감 후 0 이하가 된 사용자 기록의 집계 행 삭제 (decrementByUserId 직후, 기록이 삭제되기 전에 호출)
+    @Modifying
+    @Query(value = """
+    DELETE d FROM record_daily_rollup d
+    JOIN (
+        SELECT DISTINCT k.verb_type, k.keyword, DATE(r.action_time) AS action_date
+        FROM record r
+        JOIN keyword k ON r.keyword_id = k.keyword_id
+        WHERE k.user_id = :userId
+    ) u ON d.verb_type = u.verb_type AND d.keyword = u.keyword AND d.rollup_date = u.action_date
+    WHERE d.record_count <= 0
+    """, nativeQuery = true)
+    int deleteEmptyByUserId(@Param("userId") Long userId);
+
+    // 카테고리의 날짜별 기록 개수
+    @Query("SELECT r.rollupDate, SUM(r.recordCount) " +
+            "FROM RecordDailyRollup r " +
+            "WHERE r.verbType = :verbType " +
+            "GROUP BY r.rollupDate")
+    List<Object[]> sumDailyByVerbType(@Param("verbType") VerbType verbType);
+
+    // 카테고리의 기간 내 날짜별 기록 개수
+    @Query("SELECT r.rollupDate, SUM(r.recordCount) " +
+            "FROM RecordDailyRollup r " +
+            "WHERE r.verbType = :verbType " +
+            "AND r.rollupDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.rollupDate " +
+            "ORDER BY r.rollupDate ASC")
+    List<Object[]> sumDailyByVerbTypeBetween(@Param("verbType") VerbType verbType,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    // 카테고리의 명사별 기록 개수 (기록 수 내림차순)
+    @Query("SELECT r.keyword, SUM(r.recordCount) " +
+            "FROM RecordDailyRollup r " +
+            "WHERE r.verbType = :verbType " +
+            "GROUP BY r.keyword " +
+            "ORDER BY SUM(r.recordCount) DESC, r.keyword ASC")
+    List<Object[]> sumByNoun(@Param("verbType") VerbType verbType, Pageable pageable);
+
+    // 카테고리에 기록이 있는 날짜 (오름차순)
+    @Query("SELECT DISTINCT r.rollupDate " +
+            "FROM RecordDailyRollup r " +
+            "WHERE r.verbType = :verbType " +
+            "ORDER BY r.rollupDate ASC")
+    List<LocalDate> findActiveDatesByVerbType(@Param("verbType") VerbType verbType);
+
+    // 명사의 날짜별 기록 개수 (전체 카테고리)
+    @Query("SELECT r.rollupDate, SUM(r.recordCount) " +
+            "FROM RecordDailyRollup r " +
+            "WHERE r.keyword = :keyword " +
+            "GROUP BY r.rollupDate")
+    List<Object[]> sumDailyByKeyword(@Param("keyword") String keyword);
+
+}
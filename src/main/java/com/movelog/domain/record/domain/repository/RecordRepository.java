@@ -3,14 +3,20 @@ package com.movelog.domain.record.domain.repository;
 import com.movelog.domain.record.domain.Keyword;
 import com.movelog.domain.record.domain.Record;
 import com.movelog.domain.record.domain.VerbType;
-import com.movelog.domain.user.domain.User;
+import com.movelog.domain.record.dto.projection.KeywordRecordSummary;
+import com.movelog.domain.record.dto.projection.RecordCalendarRow;
+import com.movelog.domain.record.dto.projection.RecordImageRow;
+import com.movelog.domain.record.dto.projection.RecordStatsRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -18,60 +24,149 @@ import java.util.Optional;
 @Repository
 public interface RecordRepository extends JpaRepository<Record,Long> {
 
-    List<Record> findByKeywordInAndActionTimeBetween(List<Keyword> keywords, LocalDateTime startTime, LocalDateTime endTime);
+    // 기간 내 사용자가 기록한 카테고리 (중복 제거)
+    @Query("SELECT DISTINCT r.verbType FROM Record r " +
+            "WHERE r.userId = :userId " +
+            "AND r.actionTime BETWEEN :start AND :end")
+    List<VerbType> findVerbTypesByUserIdAndActionTimeBetween(@Param("userId") Long userId,
+                                                            @Param("start") LocalDateTime start,
+                                                            @Param("end") LocalDateTime end);
+
+    // 파생 컬럼(user_id, verb_type)이 채워지기 전에 사용하는 키워드 조인 버전
+    @Query("SELECT DISTINCT k.verbType FROM Record r " +
+            "JOIN r.keyword k " +
+            "WHERE k.user.id = :userId " +
+            "AND r.actionTime BETWEEN :start AND :end")
+    List<VerbType> findVerbTypesByKeywordUserIdAndActionTimeBetween(@Param("userId") Long userId,
+                                                                   @Param("start") LocalDateTime start,
+                                                                   @Param("end") LocalDateTime end);
 
     List<Record> findTop5ByKeywordOrderByActionTimeDesc(Keyword keyword);
 
-    @Query("SELECT r FROM Record r " +
+    // 키워드 최근 기록 이미지 (개수는 pageable로 제한)
+    @Query("SELECT r.recordImage AS recordImage, r.thumbnailSmallImage AS thumbnailSmallImage, " +
+            "r.thumbnailMediumImage AS thumbnailMediumImage, r.createdAt AS createdAt " +
+            "FROM Record r " +
+            "WHERE r.keyword.keywordId = :keywordId " +
+            "ORDER BY r.actionTime DESC")
+    List<RecordImageRow> findRecentImagesByKeywordId(@Param("keywordId") Long keywordId, Pageable pageable);
+
+    @Query(value = "SELECT r.recordId AS recordId, r.recordImage AS recordImage, " +
+            "r.thumbnailSmallImage AS thumbnailSmallImage, r.thumbnailMediumImage AS thumbnailMediumImage, k.keyword AS noun, " +
+            "r.verbType AS verbType, r.createdAt AS createdAt " +
+            "FROM Record r " +
+            "JOIN r.keyword k " +
+            "WHERE r.userId = :userId " +
+            "AND r.actionTime BETWEEN :start AND :end " +
+            "ORDER BY r.actionTime ASC",
+            countQuery = "SELECT COUNT(r) FROM Record r " +
+                    "WHERE r.userId = :userId " +
+                    "AND r.actionTime BETWEEN :start AND :end")
+    Page<RecordCalendarRow> findCalendarRowsByUserId(@Param("userId") Long userId,
+                                                     @Param("start") LocalDateTime start,
+                                                     @Param("end") LocalDateTime end,
+                                                     Pageable pageable);
+
+    // 파생 컬럼(user_id, verb_type)이 채워지기 전에 사용하는 키워드 조인 버전
+    @Query(value = "SELECT r.recordId AS recordId, r.recordImage AS recordImage, " +
+            "r.thumbnailSmallImage AS thumbnailSmallImage, r.thumbnailMediumImage AS thumbnailMediumImage, k.keyword AS noun, " +
+            "k.verbType AS verbType, r.createdAt AS createdAt " +
+            "FROM Record r " +
             "JOIN r.keyword k " +
-            "WHERE k.user = :user " +
+            "WHERE k.user.id = :userId " +
             "AND r.actionTime BETWEEN :start AND :end " +
-            "ORDER BY r.actionTime ASC")
-    Page<Record> findRecordByUserAndCreatedAtBetween(User user, LocalDateTime start, LocalDateTime end, Pageable pageable);
+            "ORDER BY r.actionTime ASC",
+            countQuery = "SELECT COUNT(r) FROM Record r " +
+                    "JOIN r.keyword k " +
+                    "WHERE k.user.id = :userId " +
+                    "AND r.actionTime BETWEEN :start AND :end")
+    Page<RecordCalendarRow> findCalendarRowsByKeywordUserId(@Param("userId") Long userId,
+                                                            @Param("start") LocalDateTime start,
+                                                            @Param("end") LocalDateTime end,
+                                                            Pageable pageable);
+
+
+    // 사용자가 등록한 기록 중 이미지가 있는 최근 기록 (개수는 pageable로 제한)
+    @Query("SELECT r.recordImage AS recordImage, r.thumbnailSmallImage AS thumbnailSmallImage, " +
+            "r.thumbnailMediumImage AS thumbnailMediumImage, r.createdAt AS createdAt " +
+            "FROM Record r " +
+            "WHERE r.userId = :userId " +
+            "AND r.recordImage IS NOT NULL " +
+            "ORDER BY r.actionTime DESC")
+    List<RecordImageRow> findRecentImagesByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // 파생 컬럼(user_id)이 채워지기 전에 사용하는 키워드 조인 버전
+    @Query("SELECT r.recordImage AS recordImage, r.thumbnailSmallImage AS thumbnailSmallImage, " +
+            "r.thumbnailMediumImage AS thumbnailMediumImage, r.createdAt AS createdAt " +
+            "FROM Record r " +
+            "JOIN r.keyword k " +
+            "WHERE k.user.id = :userId " +
+            "AND r.recordImage IS NOT NULL " +
+            "ORDER BY r.actionTime DESC")
+    List<RecordImageRow> findRecentImagesByKeywordUserId(@Param("userId") Long userId, Pageable pageable);
 
-    // 사용자가 등록한 기록 중 가장 최근 5개의 기록을 조회, 이미지가 있는 경우만 조회
-    // 5개의 기록만 조회
-    List<Record> findTop5ByKeywordUserAndRecordImageNotNullOrderByActionTimeDesc(User user);
+    @Query("SELECT COUNT(r) AS recordCount, r.actionDate AS recordDate " +
+            "FROM Record r " +
+            "WHERE r.keyword.keywordId = :keywordId " +
+            "GROUP BY r.actionDate")
+    List<Object[]> findKeywordRecordCountsByDate(@Param("keywordId") Long keywordId);
 
+    // 파생 컬럼(action_date)이 채워지기 전에 사용하는 기록 시간 기준 버전
     @Query("SELECT COUNT(r) AS recordCount, DATE(r.actionTime) AS recordDate " +
             "FROM Record r " +
             "WHERE r.keyword.keywordId = :keywordId " +
             "GROUP BY DATE(r.actionTime)")
-    List<Object[]> findKeywordRecordCountsByDate(Long keywordId);
+    List<Object[]> findKeywordRecordCountsByActionTimeDate(@Param("keywordId") Long keywordId);
 
     Record findTopByKeywordKeywordIdOrderByActionTimeDesc(Long keywordId);
 
-    @Query("SELECT r FROM Record r " +
+    // 명사 단위 전체 사용자 기록 수, 마지막 기록 시간, since 이후 기록 수
+    @Query("SELECT COUNT(r) AS recordCount, MAX(r.actionTime) AS lastRecordedAt, " +
+            "SUM(CASE WHEN r.actionTime > :since THEN 1 ELSE 0 END) AS recentCount " +
+            "FROM Record r " +
             "JOIN r.keyword k " +
-            "WHERE k.keyword = :keyword " +
-            "ORDER BY r.actionTime DESC")
-    List<Record> findAllByKeyword(String keyword);
+            "WHERE k.keyword = :keyword")
+    KeywordRecordSummary summarizeByNoun(@Param("keyword") String keyword, @Param("since") LocalDateTime since);
 
-    @Query("SELECT DATE(r.actionTime), COUNT(r) " +
+    // 기록 ID 기준 keyset 페이지 조회 (통계 재구성용)
+    @Query("SELECT r.recordId AS recordId, k.user.id AS userId, k.keyword AS noun, k.verbType AS verbType, r.actionTime AS actionTime " +
             "FROM Record r " +
             "JOIN r.keyword k " +
-            "WHERE k.keyword = :keyword " +
-            "GROUP BY DATE(r.actionTime)")
-    List<Object[]> findRecordCountsByKeywordGroupedByDate(String keyword);
+            "WHERE r.recordId > :lastRecordId AND r.recordId <= :maxRecordId " +
+            "ORDER BY r.recordId ASC")
+    List<RecordStatsRow> findStatsRowsAfter(@Param("lastRecordId") Long lastRecordId,
+                                            @Param("maxRecordId") Long maxRecordId,
+                                            Pageable pageable);
+
+    // 카테고리의 날짜별 기록 수 (일별 집계 테이블 준비 전 사용, 파생 컬럼이 채워지기 전에도 정확하도록 키워드와 action_time 기준)
+    @Query("SELECT CAST(r.actionTime AS LocalDate), COUNT(r) " +
+            "FROM Record r " +
+            "JOIN r.keyword k " +
+            "WHERE k.verbType = :verbType " +
+            "GROUP BY CAST(r.actionTime AS LocalDate)")
+    List<Object[]> countDailyByVerbType(@Param("verbType") VerbType verbType);
 
-    /**
-     * 모든 Record와 연관된 Keyword를 페치 조인하여 가져옴
-     */
-    @Query("SELECT r FROM Record r JOIN FETCH r.keyword k")
-    List<Record> findAllWithKeyword();
+    // 카테고리의 명사별 기록 수 (기록 수 내림차순)
+    @Query("SELECT k.keyword, COUNT(r) " +
+            "FROM Record r " +
+            "JOIN r.keyword k " +
+            "WHERE k.verbType = :verbType " +
+            "GROUP BY k.keyword " +
+            "ORDER BY COUNT(r) DESC, k.keyword ASC")
+    List<Object[]> countByNoun(@Param("verbType") VerbType verbType, Pageable pageable);
 
-    @Query("SELECT r FROM Record r WHERE r.keyword.verbType = :verbType " +
-            "AND r.actionTime BETWEEN :startDate AND :endDate")
-    List<Record> findRecordsByMonth(@Param("verbType") VerbType verbType,
-                                    @Param("startDate") LocalDateTime startDate,
-                                    @Param("endDate") LocalDateTime endDate);
+    @Query("SELECT MAX(r.recordId) FROM Record r")
+    Optional<Long> findMaxRecordId();
 
+    @Query("SELECT MIN(r.actionDate) FROM Record r")
+    Optional<LocalDate> findMinActionDate();
 
+    // 키워드를 명사로 찾으므로 파생 컬럼 대신 키워드의 사용자/카테고리로 거름 (채워지기 전 기록도 포함)
     @Query("""
     SELECT r.actionTime
     FROM Record r
-    WHERE r.keyword.keyword = :noun AND r.keyword.verbType = :verbType AND r.keyword.user.id = :userId
+    JOIN r.keyword k
+    WHERE k.user.id = :userId AND k.verbType = :verbType AND k.keyword = :noun
     ORDER BY r.actionTime DESC
     LIMIT 2
     """)
@@ -81,30 +176,70 @@ public interface RecordRepository extends JpaRepository<Record,Long> {
     @Query("""
     SELECT r.actionTime
     FROM Record r
-    WHERE r.keyword.keyword = :noun AND r.keyword.verbType = :verbType AND r.keyword.user.id = :userId
+    JOIN r.keyword k
+    WHERE k.user.id = :userId AND k.verbType = :verbType AND k.keyword = :noun
     ORDER BY r.actionTime DESC
     LIMIT 1
     """)
     Optional<LocalDateTime> findLastRecordedAt(@Param("userId") Long userId, @Param("noun") String noun, @Param("verbType") VerbType verbType);
 
+    // 키워드 ID 목록에 해당하는 기록 날짜 (키워드별, 날짜순 정렬, 중복 제거)
+    @Query("SELECT DISTINCT r.keyword.keywordId, r.actionDate " +
+            "FROM Record r " +
+            "WHERE r.keyword.keywordId IN :keywordIds " +
+            "ORDER BY r.keyword.keywordId ASC, r.actionDate ASC")
+    List<Object[]> findActionDatesByKeywordIds(@Param("keywordIds") List<Long> keywordIds);
+
+    // 사용자의 (카테고리, 명사, 날짜)별 기록 개수 (회원 탈퇴 시 통계 차감용, 파생 컬럼이 비어 있을 수 있어 키워드 조인)
+    @Query("SELECT k.verbType, k.keyword, CAST(r.actionTime AS LocalDate), COUNT(r) " +
+            "FROM Record r " +
+            "JOIN r.keyword k " +
+            "WHERE k.user.id = :userId " +
+            "GROUP BY k.verbType, k.keyword, CAST(r.actionTime AS LocalDate)")
+    List<Object[]> countDailyByKeywordUserId(@Param("userId") Long userId);
+
+    // 비동기로 생성된 썸네일 URL 반영
+    @Transactional
+    @Modifying
+    @Query("UPDATE Record r SET r.thumbnailSmallImage = :smallUrl, r.thumbnailMediumImage = :mediumUrl WHERE r.recordId = :recordId")
+    int updateThumbnails(@Param("recordId") Long recordId, @Param("smallUrl") String smallUrl, @Param("mediumUrl") String mediumUrl);
+
+    // 이미지가 있지만 썸네일이 없는 기록 (썸네일 재생성용, 기록 ID 순 keyset)
+    @Query("SELECT r.recordId, r.recordImage FROM Record r " +
+            "WHERE r.recordId > :lastRecordId AND r.recordImage IS NOT NULL AND r.thumbnailSmallImage IS NULL " +
+            "AND r.createdAt < :createdBefore ORDER BY r.recordId ASC")
+    List<Object[]> findMissingThumbnails(@Param("lastRecordId") Long lastRecordId,
+                                         @Param("createdBefore") LocalDateTime createdBefore,
+                                         Pageable pageable);
+
+    // 중복 키워드 정리 시 기록을 남길 키워드로 옮김
+    @Modifying
+    @Query(value = "UPDATE record SET keyword_id = :keepId WHERE keyword_id = :duplicateId", nativeQuery = true)
+    int moveToKeyword(@Param("duplicateId") Long duplicateId, @Param("keepId") Long keepId);
+
+    // 기록 ID 구간 (afterId, upToId] 중 action_date가 비어 있는 기존 기록을 채움 (호출마다 별도 트랜잭션)
+    // 채울 값이 NULL인 행도 다시 읽지 않도록 ID 구간 단위로 진행
+    @Transactional
+    @Modifying
+    @Query(value = """
+    UPDATE record
+    SET action_date = DATE(action_time)
+    WHERE record_id > :afterId AND record_id <= :upToId
+    AND action_date IS NULL
+    """, nativeQuery = true)
+    int fillMissingActionDates(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+    // 기록 ID 구간 (afterId, upToId] 중 user_id, verb_type이 비어 있는 기존 기록을 키워드 값으로 채움 (호출마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
     @Query(value = """
-    WITH StreakData AS (
-        SELECT 
-            DATE(action_time) AS record_date,
-            DATE_SUB(DATE(action_time), INTERVAL ROW_NUMBER() OVER (ORDER BY action_time) DAY) AS streak_group
-        FROM record
-        WHERE keyword_id IN (
-            SELECT k.keyword_id 
-            FROM keyword k
-            WHERE k.keyword = :noun 
-            AND k.verb_type = :verbType
-            AND k.user_id = :userId
-        )
-    )
-    SELECT COUNT(*)
-    FROM (SELECT DISTINCT record_date FROM StreakData GROUP BY streak_group) AS StreakGroups
+    UPDATE record
+    SET user_id = (SELECT k.user_id FROM keyword k WHERE k.keyword_id = record.keyword_id),
+        verb_type = (SELECT k.verb_type FROM keyword k WHERE k.keyword_id = record.keyword_id)
+    WHERE record_id > :afterId AND record_id <= :upToId
+    AND user_id IS NULL
     """, nativeQuery = true)
-    int findMaxStreakDays(@Param("userId") Long userId, @Param("noun") String noun, @Param("verbType") String verbType);
+    int fillMissingKeywordColumns(@Param("afterId") long afterId, @Param("upToId") long upToId);
 
 
 }
@@ -0,0 +1,16 @@
+package com.movelog.domain.record.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 명사 단위 전체 사용자 기록 요약 (기록 수, 마지막 기록 시간, 최근 기록 수)
+ */
+public interface KeywordRecordSummary {
+
+    Long getRecordCount();
+
+    LocalDateTime getLastRecordedAt();
+
+    Long getRecentCount();
+
+}
@@ -0,0 +1,26 @@
+package com.movelog.domain.record.dto.projection;
+
+import com.movelog.domain.record.domain.VerbType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 날짜별 기록 목록 행 (기록과 키워드를 한 번에 조인하여 필요한 컬럼만 조회)
+ */
+public interface RecordCalendarRow {
+
+    Long getRecordId();
+
+    String getRecordImage();
+
+    String getThumbnailSmallImage();
+
+    String getThumbnailMediumImage();
+
+    String getNoun();
+
+    VerbType getVerbType();
+
+    LocalDateTime getCreatedAt();
+
+}
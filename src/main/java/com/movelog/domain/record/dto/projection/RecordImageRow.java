@@ -0,0 +1,18 @@
+package com.movelog.domain.record.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 기록 이미지 행
+ */
+public interface RecordImageRow {
+
+    String getRecordImage();
+
+    String getThumbnailSmallImage();
+
+    String getThumbnailMediumImage();
+
+    LocalDateTime getCreatedAt();
+
+}
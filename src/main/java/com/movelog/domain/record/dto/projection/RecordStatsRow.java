@@ -0,0 +1,22 @@
+package com.movelog.domain.record.dto.projection;
+
+import com.movelog.domain.record.domain.VerbType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 재구성용 기록 행 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public interface RecordStatsRow {
+
+    Long getRecordId();
+
+    Long getUserId();
+
+    String getNoun();
+
+    VerbType getVerbType();
+
+    LocalDateTime getActionTime();
+
+}
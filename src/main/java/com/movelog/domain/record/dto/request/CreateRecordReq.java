@@ -16,4 +16,8 @@ public class CreateRecordReq {
 
     @Schema(type = "String", example = "헬스", description = "명사 작성")
     private String noun;
+
+    @Schema(type = "String", example = "record/3f1c2a9e-8d7b-4e1a-9c3d-2b6f5e4a1d0c.jpg", description = "업로드 URL로 직접 올린 이미지의 객체 Key (img 대신 사용, 선택)")
+    private String objectKey;
+
 }
@@ -0,0 +1,21 @@
+package com.movelog.domain.record.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class UploadUrlReq {
+
+    @Schema( type = "String", example ="IMG_0001.jpg", description="업로드할 파일 이름 (확장자 확인용)")
+    private String fileName;
+
+    @Schema( type = "String", example ="image/jpeg", description="업로드할 파일 형식 (image/jpeg, image/png, video/mp4), 업로드 시 같은 Content-Type 헤더를 보내야 합니다.")
+    private String contentType;
+
+}
@@ -0,0 +1,28 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ActiveUserRes {
+
+    @Schema( type = "String", example ="했어요", description="카테고리 (지정하지 않으면 전체)")
+    private String category;
+
+    @Schema( type = "LocalDate", example = "2025-02-01", description="조회 시작일")
+    private LocalDate from;
+
+    @Schema( type = "LocalDate", example = "2025-02-07", description="조회 종료일")
+    private LocalDate to;
+
+    @Schema( type = "long", example = "1200", description="기간 내 기록한 사용자 수 (근삿값)")
+    private long activeUsers;
+}
@@ -0,0 +1,23 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ActiveUserSummaryRes {
+
+    @Schema( type = "long", example = "150", description="오늘 기록한 사용자 수 (근삿값)")
+    private long dau;
+
+    @Schema( type = "long", example = "600", description="최근 7일 동안 기록한 사용자 수 (근삿값)")
+    private long wau;
+
+    @Schema( type = "long", example = "1800", description="최근 30일 동안 기록한 사용자 수 (근삿값)")
+    private long mau;
+}
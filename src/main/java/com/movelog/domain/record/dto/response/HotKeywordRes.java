@@ -0,0 +1,20 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class HotKeywordRes {
+
+    @Schema( type = "String", example ="헬스", description="키워드")
+    private String keyword;
+
+    @Schema( type = "long", example = "42", description="조회 기간 동안의 기록 수")
+    private long count;
+}
@@ -0,0 +1,28 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class KeywordReachRes {
+
+    @Schema( type = "String", example ="마라탕", description="명사")
+    private String keyword;
+
+    @Schema( type = "LocalDate", example = "2025-02-01", description="조회 시작일")
+    private LocalDate from;
+
+    @Schema( type = "LocalDate", example = "2025-02-28", description="조회 종료일")
+    private LocalDate to;
+
+    @Schema( type = "long", example = "320", description="기간 내 명사를 기록한 사용자 수 (근삿값)")
+    private long uniqueUsers;
+}
@@ -14,4 +14,10 @@ public class Recent5RecordImagesRes {
 
     @Schema( type = "String", example ="https://movelog.com/record/1/image/1", description="최근 5개의 기록 이미지 URL")
     private String imageUrl;
+
+    @Schema( type = "String", example ="https://movelog.s3.ap-northeast-2.amazonaws.com/record/1_256.jpg", description="기록 이미지 썸네일 URL (256px, 생성 전이면 null)")
+    private String smallThumbnailUrl;
+
+    @Schema( type = "String", example ="https://movelog.s3.ap-northeast-2.amazonaws.com/record/1_768.jpg", description="기록 이미지 썸네일 URL (768px, 생성 전이면 null)")
+    private String mediumThumbnailUrl;
 }
@@ -17,6 +17,12 @@ public class RecentRecordImagesRes {
     @Schema( type = "String", example ="https://movelog.s3.ap-northeast-2.amazonaws.com/record/2021-08-01/1.jpg", description="최근 기록 이미지 URL")
     private String imageUrl;
 
+    @Schema( type = "String", example ="https://movelog.s3.ap-northeast-2.amazonaws.com/record/1_256.jpg", description="기록 이미지 썸네일 URL (256px, 생성 전이면 null)")
+    private String smallThumbnailUrl;
+
+    @Schema( type = "String", example ="https://movelog.s3.ap-northeast-2.amazonaws.com/record/1_768.jpg", description="기록 이미지 썸네일 URL (768px, 생성 전이면 null)")
+    private String mediumThumbnailUrl;
+
     @Schema( type = "LocalDateTime", example ="2021-08-01T00:00:00", description="최근 기록 이미지 생성 시간")
     private LocalDateTime createdAt;
 
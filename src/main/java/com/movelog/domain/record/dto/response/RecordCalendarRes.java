@@ -20,6 +20,12 @@ public class RecordCalendarRes {
     @Schema( type = "String", example ="https://movelog.s3.ap-northeast-2.amazonaws.com/record/2021-08-01/1.jpg", description="기록 이미지 URL")
     private String recordImageUrl;
 
+    @Schema( type = "String", example ="https://movelog.s3.ap-northeast-2.amazonaws.com/record/1_256.jpg", description="기록 이미지 썸네일 URL (256px, 생성 전이면 null)")
+    private String smallThumbnailUrl;
+
+    @Schema( type = "String", example ="https://movelog.s3.ap-northeast-2.amazonaws.com/record/1_768.jpg", description="기록 이미지 썸네일 URL (768px, 생성 전이면 null)")
+    private String mediumThumbnailUrl;
+
     @Schema( type = "String", example ="헬스", description="명사")
     private String noun;
 
@@ -0,0 +1,23 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class RetentionPointRes {
+
+    @Schema( type = "int", example = "1", description="가입 후 경과 일/주 수")
+    private int offset;
+
+    @Schema( type = "long", example = "120", description="기록한 코호트 사용자 수")
+    private long retainedUsers;
+
+    @Schema( type = "double", example = "48.0", description="대상 코호트 사용자 대비 비율 (%), 일별은 N일이 지난 가입일의 사용자만 대상")
+    private double rate;
+}
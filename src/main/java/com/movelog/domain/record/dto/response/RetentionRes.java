@@ -0,0 +1,32 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class RetentionRes {
+
+    @Schema( type = "LocalDate", example = "2025-02-03", description="가입 코호트 시작일 (월요일)")
+    private LocalDate cohortStart;
+
+    @Schema( type = "LocalDate", example = "2025-02-09", description="가입 코호트 종료일 (일요일)")
+    private LocalDate cohortEnd;
+
+    @Schema( type = "long", example = "250", description="코호트 가입자 수")
+    private long cohortSize;
+
+    @Schema( type = "List", description="가입 N일 후 기록한 사용자 비율 (N = 1부터)")
+    private List<RetentionPointRes> dayRetention;
+
+    @Schema( type = "List", description="가입 N주 후 그 주에 기록한 사용자 비율 (N = 1부터)")
+    private List<RetentionPointRes> weekRetention;
+}
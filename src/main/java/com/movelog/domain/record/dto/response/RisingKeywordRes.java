@@ -0,0 +1,26 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class RisingKeywordRes {
+
+    @Schema( type = "String", example ="헬스", description="키워드")
+    private String keyword;
+
+    @Schema( type = "long", example = "42", description="조회 기간 동안의 기록 수")
+    private long count;
+
+    @Schema( type = "long", example = "10", description="직전 같은 길이 기간 동안의 기록 수")
+    private long previousCount;
+
+    @Schema( type = "long", example = "32", description="직전 기간 대비 증가한 기록 수")
+    private long growth;
+}
@@ -0,0 +1,32 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class StatsWarmUpRes {
+
+    @Schema( type = "String", example = "RUNNING", description = "통계 워밍업 상태 (PENDING, RUNNING, READY, FAILED)")
+    private String status;
+
+    @Schema( type = "boolean", example = "false", description = "Redis 통계 사용 가능 여부 (false인 동안 DB 집계로 응답)")
+    private boolean ready;
+
+    @Schema( type = "String", example = "Redis 통계 재구성", description = "현재 진행 중인 단계")
+    private String currentStep;
+
+    @Schema( type = "int", example = "2", description = "완료된 단계 수")
+    private int completedSteps;
+
+    @Schema( type = "int", example = "5", description = "전체 단계 수")
+    private int totalSteps;
+
+    @Schema( type = "int", example = "0", description = "실패 횟수 (실패하면 간격을 늘려 가며 재시도)")
+    private int failedAttempts;
+}
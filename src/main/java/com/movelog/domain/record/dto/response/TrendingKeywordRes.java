@@ -0,0 +1,20 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class TrendingKeywordRes {
+
+    @Schema( type = "String", example ="헬스", description="키워드")
+    private String keyword;
+
+    @Schema( type = "double", example = "12.5", description="최근 기록일수록 크게 반영한 점수 (6시간마다 절반으로 감소하는 기록 수)")
+    private double score;
+}
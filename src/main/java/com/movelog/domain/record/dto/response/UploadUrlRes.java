@@ -0,0 +1,26 @@
+package com.movelog.domain.record.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class UploadUrlRes {
+
+    @Schema( type = "String", example ="record/3f1c2a9e-8d7b-4e1a-9c3d-2b6f5e4a1d0c.jpg", description="업로드 후 생성 API에 넘길 객체 Key")
+    private String objectKey;
+
+    @Schema( type = "String", example ="https://movelog.s3.ap-northeast-2.amazonaws.com/record/3f1c2a9e-8d7b-4e1a-9c3d-2b6f5e4a1d0c.jpg?X-Amz-Signature=...", description="PUT으로 파일을 업로드할 URL")
+    private String uploadUrl;
+
+    @Schema( type = "LocalDateTime", example ="2025-01-01T12:15:00", description="업로드 URL 만료 시간")
+    private LocalDateTime expiresAt;
+
+}
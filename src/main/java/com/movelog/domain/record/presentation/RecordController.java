@@ -1,6 +1,7 @@
 package com.movelog.domain.record.presentation;
 
 import com.movelog.domain.record.dto.request.CreateRecordReq;
+import com.movelog.domain.record.dto.request.UploadUrlReq;
 import com.movelog.domain.record.dto.response.*;
 import com.movelog.domain.record.application.RecordService;
 import com.movelog.global.config.security.token.UserPrincipal;
@@ -44,15 +45,30 @@ public class RecordController {
             @Parameter(description = "Schemas의 CreateRecordReq를 참고해주세요.", required = true) @RequestPart CreateRecordReq createRecordReq,
             @RequestPart(value = "img", required = false) MultipartFile img
     ) {
-        // 이미지 null 체크
-        log.info("img: {}", img.isEmpty());
-        if(img.isEmpty()) {
+        // 이미지 null 체크 (objectKey로 직접 업로드한 경우 img 없이 요청)
+        if(img != null && img.isEmpty()) {
             img = null;
         }
         recordService.createRecord(userPrincipal, createRecordReq, img);
         return ResponseEntity.ok(ApiResponseUtil.success(Message.builder().message("기록이 생성되었습니다.").build()));
     }
 
+    @Operation(summary = "기록 이미지 업로드 URL 발급 API", description = "S3에 기록 이미지를 직접 업로드할 수 있는 URL을 발급합니다. 업로드 후 기록 추가 API에 objectKey를 넘겨주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "업로드 URL 발급 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = UploadUrlRes.class))),
+            @ApiResponse(responseCode = "400", description = "업로드 URL 발급 실패",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/upload-url")
+    public ResponseEntity<?> createUploadUrl(
+            @Parameter(description = "User의 토큰을 입력해주세요.", required = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "Schemas의 UploadUrlReq를 참고해주세요.", required = true) @RequestBody UploadUrlReq uploadUrlReq
+    ) {
+        UploadUrlRes response = recordService.createUploadUrl(userPrincipal, uploadUrlReq);
+        return ResponseEntity.ok(ApiResponseUtil.success(response));
+    }
+
     @Operation(summary = "오늘 기준 기록 현황 API", description = "오늘 기준 기록 확인하는 API입니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "오늘 기준 기록 현황 조회 성공",
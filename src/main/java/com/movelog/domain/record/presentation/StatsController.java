@@ -1,7 +1,12 @@
 package com.movelog.domain.record.presentation;
 
+import com.movelog.domain.record.application.HotKeywordService;
 import com.movelog.domain.record.application.KeywordService;
+import com.movelog.domain.record.application.RetentionService;
 import com.movelog.domain.record.application.RecordService;
+import com.movelog.domain.record.application.StatsWarmUpService;
+import com.movelog.domain.record.application.TrendingKeywordService;
+import com.movelog.domain.record.application.UniqueUserStatsService;
 import com.movelog.domain.record.dto.response.*;
 import com.movelog.global.config.security.token.UserPrincipal;
 import com.movelog.global.payload.ErrorResponse;
@@ -14,10 +19,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +37,11 @@ public class StatsController {
 
     private final KeywordService keywordService;
     private final RecordService recordService;
+    private final StatsWarmUpService statsWarmUpService;
+    private final HotKeywordService hotKeywordService;
+    private final TrendingKeywordService trendingKeywordService;
+    private final UniqueUserStatsService uniqueUserStatsService;
+    private final RetentionService retentionService;
 
     @Operation(summary = "통계 조회 시 단어 검색 API", description = "통계 조회 시 서비스 내에서 생성된 단어를 검색하는 API입니다.")
     @ApiResponses(value = {
@@ -130,4 +142,144 @@ public class StatsController {
     }
 
 
+    @Operation(summary = "최근 많이 기록된 단어 조회 API", description = "최근 일정 시간 동안 카테고리에서 가장 많이 기록된 단어 목록을 조회하는 API입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "최근 많이 기록된 단어 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = HotKeywordRes.class))),
+            @ApiResponse(responseCode = "400", description = "최근 많이 기록된 단어 조회 실패",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/word/hot")
+    public ResponseEntity<?> getHotKeywords(
+            @Parameter(description = "카테고리를 입력해주세요. (했어요, 갔어요, 먹었어요)", required = true) @RequestParam String category,
+            @Parameter(description = "조회할 시간 범위를 입력해주세요. (1~72, 기본 24)") @RequestParam(defaultValue = "24") int hours,
+            @Parameter(description = "조회할 단어 개수를 입력해주세요. (기본 10)") @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<HotKeywordRes> response = hotKeywordService.getHotKeywords(category, hours, limit);
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "급상승 단어 조회 API", description = "최근 일정 시간 동안의 기록 수가 직전 같은 시간 대비 가장 많이 늘어난 단어 목록을 조회하는 API입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "급상승 단어 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = RisingKeywordRes.class))),
+            @ApiResponse(responseCode = "400", description = "급상승 단어 조회 실패",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/word/rising")
+    public ResponseEntity<?> getRisingKeywords(
+            @Parameter(description = "카테고리를 입력해주세요. (했어요, 갔어요, 먹었어요)", required = true) @RequestParam String category,
+            @Parameter(description = "조회할 시간 범위를 입력해주세요. (1~72, 기본 24)") @RequestParam(defaultValue = "24") int hours,
+            @Parameter(description = "조회할 단어 개수를 입력해주세요. (기본 10)") @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<RisingKeywordRes> response = hotKeywordService.getRisingKeywords(category, hours, limit);
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "지금 뜨는 단어 조회 API", description = "최근 기록일수록 크게 반영한 점수(6시간 반감기)로 카테고리에서 지금 뜨는 단어 목록을 조회하는 API입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "지금 뜨는 단어 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = TrendingKeywordRes.class))),
+            @ApiResponse(responseCode = "400", description = "지금 뜨는 단어 조회 실패",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/word/trending")
+    public ResponseEntity<?> getTrendingKeywords(
+            @Parameter(description = "카테고리를 입력해주세요. (했어요, 갔어요, 먹었어요)", required = true) @RequestParam String category,
+            @Parameter(description = "조회할 단어 개수를 입력해주세요. (기본 10)") @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<TrendingKeywordRes> response = trendingKeywordService.getTrendingKeywords(category, limit);
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "단어 도달 사용자 수 조회 API", description = "기간 내 특정 명사를 기록한 고유 사용자 수(근삿값)를 조회하는 API입니다. 기간을 입력하지 않으면 최근 30일입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "단어 도달 사용자 수 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = KeywordReachRes.class))),
+            @ApiResponse(responseCode = "400", description = "단어 도달 사용자 수 조회 실패",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/word/reach")
+    public ResponseEntity<?> getKeywordReach(
+            @Parameter(description = "조회할 명사를 입력해주세요.", required = true) @RequestParam String keyword,
+            @Parameter(description = "조회 시작일을 입력해주세요. (yyyy-MM-dd 형식)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료일을 입력해주세요. (yyyy-MM-dd 형식)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        KeywordReachRes response = uniqueUserStatsService.getKeywordReach(keyword, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "활성 사용자 수 조회 API", description = "기간 내 기록한 고유 사용자 수(근삿값)를 조회하는 API입니다. 카테고리를 입력하면 해당 카테고리에 기록한 사용자만 셉니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "활성 사용자 수 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ActiveUserRes.class))),
+            @ApiResponse(responseCode = "400", description = "활성 사용자 수 조회 실패",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/user/active")
+    public ResponseEntity<?> getActiveUsers(
+            @Parameter(description = "조회 시작일을 입력해주세요. (yyyy-MM-dd 형식, 기본 종료일)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료일을 입력해주세요. (yyyy-MM-dd 형식, 기본 오늘)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "카테고리를 입력해주세요. (했어요, 갔어요, 먹었어요)") @RequestParam(required = false) String category
+    ) {
+        ActiveUserRes response = uniqueUserStatsService.getActiveUsers(from, to, category);
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "DAU/WAU/MAU 조회 API", description = "오늘 기준 최근 1일/7일/30일 동안 기록한 고유 사용자 수(근삿값)를 조회하는 API입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "DAU/WAU/MAU 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ActiveUserSummaryRes.class)))
+    })
+    @GetMapping("/user/active/summary")
+    public ResponseEntity<?> getActiveUserSummary() {
+        ActiveUserSummaryRes response = uniqueUserStatsService.getActiveUserSummary();
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "가입 코호트 리텐션 조회 API", description = "가입 주(월요일 시작) 코호트의 일별/주별 리텐션을 조회하는 API입니다. 아직 오지 않은 날짜/주는 제외됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "가입 코호트 리텐션 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RetentionRes.class))),
+            @ApiResponse(responseCode = "400", description = "가입 코호트 리텐션 조회 실패",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/user/retention")
+    public ResponseEntity<?> getRetention(
+            @Parameter(description = "코호트 주에 포함된 날짜를 입력해주세요. (yyyy-MM-dd 형식, 기본 이번 주)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cohortDate,
+            @Parameter(description = "일별 리텐션 일 수를 입력해주세요. (1~30, 기본 7)") @RequestParam(defaultValue = "7") int days,
+            @Parameter(description = "주별 리텐션 주 수를 입력해주세요. (1~12, 기본 4)") @RequestParam(defaultValue = "4") int weeks
+    ) {
+        RetentionRes response = retentionService.getRetention(cohortDate, days, weeks);
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "통계 워밍업 상태 조회 API",
+            description = "Redis 통계 워밍업 진행 상태를 조회하는 API입니다. ready가 false인 동안 통계는 DB 집계로 응답합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "통계 워밍업 상태 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StatsWarmUpRes.class)))
+    })
+    @GetMapping("/status")
+    public ResponseEntity<?> getStatsWarmUpStatus() {
+        StatsWarmUpRes response = statsWarmUpService.getStatus();
+        return ResponseEntity.ok(response);
+    }
+
+
 }
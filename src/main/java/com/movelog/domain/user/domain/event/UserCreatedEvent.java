@@ -0,0 +1,20 @@
+package com.movelog.domain.user.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 생성 이벤트 (커밋 이후 가입 코호트 갱신용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserCreatedEvent {
+
+    private final Long userId;
+
+    private final LocalDateTime createdAt;
+}
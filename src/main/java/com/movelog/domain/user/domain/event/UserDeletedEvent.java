@@ -0,0 +1,16 @@
+package com.movelog.domain.user.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자 삭제 이벤트 (삭제 전에 발행, 탈퇴 트랜잭션 안에서 통계 차감 및 커밋 이후 사용자별 캐시 정리용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserDeletedEvent {
+
+    private final Long userId;
+}
@@ -1,8 +1,10 @@
 package com.movelog.domain.user.domain.repository;
 
 import com.movelog.domain.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +18,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u.id FROM User u")
     List<Long> findAllUserId();
+
+    // 사용자 ID 기준 keyset 페이지 조회 (가입 코호트 초기화용), [userId, createdAt]
+    @Query("SELECT u.id, u.createdAt FROM User u WHERE u.id > :lastUserId ORDER BY u.id ASC")
+    List<Object[]> findSignUpsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
 }
@@ -0,0 +1,80 @@
+package com.movelog.global.config;
+
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 아래 Executor 빈이 있으면 Boot 기본 applicationTaskExecutor가 생성되지 않으므로 직접 등록
+    // (@Async, MVC 비동기 처리 등 Executor를 지정하지 않은 곳은 이 Executor 사용, spring.task.execution 설정 적용)
+    // 용도별 Executor는 @Qualifier로 지정하여 주입, initialize()는 빈 초기화 시 호출됨
+    @Primary
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // 통계 워밍업 (애플리케이션 시작 후 백그라운드 1회 실행)
+    @Bean
+    public ThreadPoolTaskExecutor statsWarmUpExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("stats-warmup-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // 통계 캐시 백그라운드 갱신 (stale-while-revalidate)
+    @Bean
+    public ThreadPoolTaskExecutor statsCacheExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("stats-cache-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // S3 업로드 (동시 업로드 수 제한, 큐가 차면 요청 거절)
+    @Bean
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(64);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    // S3 멀티파트 파트 업로드 (스레드 수 × 파트 크기로 동시 전송량 제한, 파트는 파일에서 읽으므로 대기 작업은 메모리를 쓰지 않음)
+    @Bean
+    public ThreadPoolTaskExecutor s3PartUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setThreadNamePrefix("s3-part-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    // 업로드 이미지 썸네일 생성 (디코딩 메모리 사용량 제한을 위해 스레드 수를 작게 유지, 큐가 차면 생성 생략)
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
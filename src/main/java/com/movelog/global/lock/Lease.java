@@ -0,0 +1,61 @@
+package com.movelog.global.lock;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 획득한 분산 락
+ * fencingToken은 획득할 때마다 증가하므로, 결과는 RedisLockManager.setIfHeld/executeIfHeld로 최신 보유자일 때만 원자적으로 반영
+ * isHeld()는 오래 걸리는 작업을 일찍 중단할지 판단하는 용도 (확인 후 반영 전에 락을 잃을 수 있음)
+ */
+@Getter
+public class Lease implements AutoCloseable {
+
+    @Getter(AccessLevel.NONE)
+    private final RedisLockManager lockManager;
+
+    private final String name;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final String owner;
+
+    private final long fencingToken;
+
+    @Getter(AccessLevel.PACKAGE)
+    private volatile boolean lost;
+
+    @Getter(AccessLevel.NONE)
+    private volatile ScheduledFuture<?> renewal;
+
+    Lease(RedisLockManager lockManager, String name, String owner, long fencingToken) {
+        this.lockManager = lockManager;
+        this.name = name;
+        this.owner = owner;
+        this.fencingToken = fencingToken;
+    }
+
+    public boolean isHeld() {
+        return lockManager.isHeld(this);
+    }
+
+    @Override
+    public void close() {
+        lockManager.release(this);
+    }
+
+    void setRenewal(ScheduledFuture<?> renewal) {
+        this.renewal = renewal;
+    }
+
+    void markLost() {
+        this.lost = true;
+    }
+
+    void cancelRenewal() {
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.movelog.global.lock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 분산 락 (lease)
+ * SET NX PX로 획득하고, TTL의 1/3 주기로 갱신하며, 획득할 때마다 증가하는 fencing token을 발급
+ * 여러 인스턴스 중 하나만 무거운 작업(통계 재구성, 스냅샷 등)을 수행하도록 할 때 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLockManager {
+
+    private static final String LOCK_PREFIX = "lock:";
+    private static final String FENCE_SUFFIX = ":fence";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    // fencing token이 그대로인 경우에만 SET (확인과 쓰기 사이에 다른 인스턴스가 획득할 수 없음)
+    private static final RedisScript<Long> SET_IF_HELD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then redis.call('SET', KEYS[2], ARGV[2]) return 1 else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ScheduledExecutorService renewalScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-lock-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 락 획득 시도 (이미 다른 인스턴스가 보유 중이면 empty)
+     */
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(name), owner, ttl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return Optional.empty();
+        }
+
+        Long fencingToken = redisTemplate.opsForValue().increment(fenceKey(name));
+        Lease lease = new Lease(this, name, owner, fencingToken == null ? 0L : fencingToken);
+
+        long period = Math.max(ttl.toMillis() / 3, 1L);
+        lease.setRenewal(renewalScheduler.scheduleAtFixedRate(
+                () -> renew(lease, ttl), period, period, TimeUnit.MILLISECONDS));
+
+        log.info("🔒 Lock acquired: name={}, fencingToken={}", name, lease.getFencingToken());
+        return Optional.of(lease);
+    }
+
+    /**
+     * 락을 획득한 경우에만 작업 실행 후 해제, 실행 여부 반환
+     */
+    public boolean runExclusively(String name, Duration ttl, Consumer<Lease> task) {
+        Optional<Lease> acquired = tryAcquire(name, ttl);
+        if (acquired.isEmpty()) {
+            log.info("Lock is held by another instance, skipping: name={}", name);
+            return false;
+        }
+
+        try (Lease lease = acquired.get()) {
+            task.accept(lease);
+        }
+        return true;
+    }
+
+    /**
+     * 여전히 최신 보유자인 경우에만 key에 value를 저장, 저장 여부 반환
+     */
+    public boolean setIfHeld(Lease lease, String key, String value) {
+        if (lease.isLost()) {
+            return false;
+        }
+        Long written = redisTemplate.execute(SET_IF_HELD_SCRIPT, List.of(fenceKey(lease.getName()), key),
+                String.valueOf(lease.getFencingToken()), value);
+        return written != null && written == 1L;
+    }
+
+    /**
+     * 여전히 최신 보유자인 경우에만 commands를 MULTI/EXEC로 실행, 실행 여부 반환
+     * fencing token Key를 WATCH한 뒤 확인하므로, 확인과 실행 사이에 다른 인스턴스가 획득하면 EXEC가 취소됨
+     * commands는 명령을 하나 이상 쌓아야 함 (EXEC 결과가 비어 있으면 취소된 것으로 판단)
+     */
+    public boolean executeIfHeld(Lease lease, Consumer<RedisOperations<String, String>> commands) {
+        String fenceKey = fenceKey(lease.getName());
+        String fencingToken = String.valueOf(lease.getFencingToken());
+        List<Object> results = redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.watch(fenceKey);
+                if (lease.isLost() || !fencingToken.equals(ops.opsForValue().get(fenceKey))) {
+                    ops.unwatch();
+                    return null;
+                }
+                ops.multi();
+                commands.accept(ops);
+                return ops.exec();
+            }
+        });
+        return results != null && !results.isEmpty();
+    }
+
+    // 만료되지 않았고, 이후 다른 인스턴스가 새로 획득하지 않았는지 확인
+    boolean isHeld(Lease lease) {
+        if (lease.isLost()) {
+            return false;
+        }
+        String fence = redisTemplate.opsForValue().get(fenceKey(lease.getName()));
+        return String.valueOf(lease.getFencingToken()).equals(fence);
+    }
+
+    void release(Lease lease) {
+        lease.cancelRenewal();
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(lease.getName())), lease.getOwner());
+            log.info("🔓 Lock released: name={}, fencingToken={}", lease.getName(), lease.getFencingToken());
+        } catch (DataAccessException e) {
+            // 해제에 실패해도 TTL이 지나면 만료됨
+            log.error("Failed to release lock: name={}, error={}", lease.getName(), e.getMessage());
+        }
+    }
+
+    private void renew(Lease lease, Duration ttl) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(lockKey(lease.getName())),
+                    lease.getOwner(), String.valueOf(ttl.toMillis()));
+            if (renewed == null || renewed == 0L) {
+                lease.markLost();
+                log.warn("Lock lost before release: name={}, fencingToken={}", lease.getName(), lease.getFencingToken());
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to renew lock: name={}, error={}", lease.getName(), e.getMessage());
+        }
+    }
+
+    private String lockKey(String name) {
+        return LOCK_PREFIX + name;
+    }
+
+    private String fenceKey(String name) {
+        return LOCK_PREFIX + name + FENCE_SUFFIX;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalScheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,231 @@
+package com.movelog.global.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 업로드된 원본 이미지로 썸네일(긴 변 256px, 768px) 생성
+ * 원본을 S3에서 읽어 ImageIO로 디코딩하고, 원본 옆에 {이름}_256.jpg, {이름}_768.jpg로 저장
+ * 디코딩 시 필요한 크기의 2배까지만 서브샘플링하여 카메라 원본 전체를 메모리에 올리지 않음
+ * 휴대폰 사진은 픽셀을 돌리지 않고 EXIF Orientation으로 방향을 표시하므로, 축소 전에 그 방향대로 회전/반전
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageThumbnailGenerator {
+
+    public static final int SMALL_SIZE = 256;
+    public static final int MEDIUM_SIZE = 768;
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L; // 압축 폭탄 방지
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    public record Thumbnails(String smallUrl, String mediumUrl) {}
+
+    private final S3Util s3Util;
+
+    /**
+     * 썸네일 생성 후 URL 반환 (이미지가 아니거나 읽을 수 없으면 empty)
+     */
+    public Optional<Thumbnails> generate(String objectKey) {
+        if (!isImage(objectKey)) {
+            return Optional.empty();
+        }
+
+        BufferedImage source;
+        try (InputStream inputStream = s3Util.openObject(objectKey)) {
+            source = decode(inputStream);
+        } catch (IOException e) {
+            log.warn("썸네일 원본 읽기 실패: key={}, error={}", objectKey, e.getMessage());
+            return Optional.empty();
+        }
+        if (source == null) {
+            return Optional.empty();
+        }
+
+        try {
+            String smallUrl = s3Util.upload(encode(resize(source, SMALL_SIZE)), thumbnailKey(objectKey, SMALL_SIZE), "image/jpeg");
+            String mediumUrl = s3Util.upload(encode(resize(source, MEDIUM_SIZE)), thumbnailKey(objectKey, MEDIUM_SIZE), "image/jpeg");
+            return Optional.of(new Thumbnails(smallUrl, mediumUrl));
+        } catch (IOException e) {
+            log.warn("썸네일 인코딩 실패: key={}, error={}", objectKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 영상(.mp4)은 원본을 내려받지 않고 건너뜀
+    private boolean isImage(String objectKey) {
+        String lowerKey = objectKey.toLowerCase(Locale.ROOT);
+        return lowerKey.endsWith(".jpg") || lowerKey.endsWith(".jpeg") || lowerKey.endsWith(".png");
+    }
+
+    /**
+     * 저장된 원본 URL에서 객체 Key 복원 (객체 Key는 "{폴더}/{UUID 파일명}" 형식이고 행에는 URL만 저장됨)
+     */
+    public static String objectKeyFromUrl(String imageUrl, String folder) {
+        return folder + "/" + imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+    }
+
+    // 원본 옆에 저장할 썸네일 Key (record/abc.jpg → record/abc_256.jpg)
+    public static String thumbnailKey(String objectKey, int size) {
+        int dot = objectKey.lastIndexOf('.');
+        String base = dot > objectKey.lastIndexOf('/') ? objectKey.substring(0, dot) : objectKey;
+        return base + "_" + size + ".jpg";
+    }
+
+    // 지원하지 않는 형식(영상 등)이면 null
+    private BufferedImage decode(InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                // EXIF(APP1)를 읽기 위해 메타데이터는 무시하지 않음
+                reader.setInput(imageInputStream, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    log.warn("썸네일 원본이 너무 큼: {}x{}", width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (MEDIUM_SIZE * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                return orient(image, readOrientation(reader.getImageMetadata(0)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG APP1(Exif) 세그먼트의 IFD0에서 Orientation(1~8) 값을 찾음, 없거나 읽을 수 없으면 1(회전 없음)
+    private int readOrientation(IIOMetadata metadata) {
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return 1;
+        }
+
+        Node root = metadata.getAsTree(JPEG_METADATA_FORMAT);
+        for (Node section = root.getFirstChild(); section != null; section = section.getNextSibling()) {
+            if (!"markerSequence".equals(section.getNodeName())) continue;
+            for (Node marker = section.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if ("unknown".equals(marker.getNodeName())
+                        && String.valueOf(APP1_MARKER).equals(((IIOMetadataNode) marker).getAttribute("MarkerTag"))
+                        && ((IIOMetadataNode) marker).getUserObject() instanceof byte[] app1) {
+                    return parseOrientation(app1);
+                }
+            }
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" 뒤의 TIFF 헤더(바이트 순서, IFD0 위치)를 따라 IFD0 항목 중 Orientation 태그 값을 읽음
+    private int parseOrientation(byte[] app1) {
+        if (app1.length < EXIF_HEADER.length + 8 || !Arrays.equals(Arrays.copyOf(app1, EXIF_HEADER.length), EXIF_HEADER)) {
+            return 1;
+        }
+        try {
+            ByteBuffer tiff = ByteBuffer.wrap(app1, EXIF_HEADER.length, app1.length - EXIF_HEADER.length).slice();
+            tiff.order(tiff.get(0) == 'M' ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+
+            int ifd = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(ifd));
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return orientation >= 1 && orientation <= 8 ? orientation : 1;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            log.warn("EXIF 읽기 실패: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    // EXIF Orientation에 따라 회전/반전 (5~8은 가로세로가 바뀜)
+    private BufferedImage orient(BufferedImage source, int orientation) {
+        if (source == null || orientation == 1) {
+            return source;
+        }
+
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);       // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);      // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);            // 좌우 반전 후 270도
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);      // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 좌우 반전 후 90도
+            default -> new AffineTransform(0, -1, 1, 0, 0, width);      // 8: 시계 방향 270도
+        };
+
+        boolean swapped = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swapped ? height : width, swapped ? width : height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    // 긴 변이 maxSize가 되도록 비율 유지 축소 (원본이 더 작으면 크기 유지), JPEG 저장을 위해 투명 영역은 흰색으로 채움
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", outputStream);
+        return outputStream.toByteArray();
+    }
+}
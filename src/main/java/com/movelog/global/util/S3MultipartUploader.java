@@ -0,0 +1,170 @@
+package com.movelog.global.util;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.model.PartETag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 큰 파일(영상 등)의 S3 멀티파트 업로드
+ * 파일을 PART_SIZE 단위로 나누어 파트 업로드 스레드 풀에서 병렬 전송하고, 파트마다 재시도
+ * 동시에 전송 중인 파트는 풀 크기로 제한되므로 메모리 사용량은 최대 (PART_SIZE × 풀 크기)
+ * 한 파트라도 최종 실패하면 남은 파트는 건너뛰고, 전송 중인 파트가 끝난 뒤 업로드를 abort하여 S3에 조각이 남지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3MultipartUploader {
+
+    static final long PART_SIZE = 16L * 1024 * 1024; // S3 최소 파트 크기는 5MB
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 500L;
+
+    private final S3Util s3Util;
+    @Qualifier("s3PartUploadExecutor")
+    private final ThreadPoolTaskExecutor s3PartUploadExecutor;
+
+    public String upload(Path file, String objectKey, String contentType) {
+        long size = size(file);
+        String uploadId = s3Util.initiateMultipartUpload(objectKey, contentType);
+
+        int partCount = (int) ((size + PART_SIZE - 1) / PART_SIZE);
+        // 파트 작업이 전송을 마치거나 건너뛸 때마다 감소, abort와 임시 파일 삭제는 0이 된 뒤에만 진행
+        CountDownLatch finished = new CountDownLatch(partCount);
+        // 처음 실패한 파트의 예외 (이후 실행되는 파트는 전송하지 않고 건너뜀)
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        List<Future<PartETag>> parts = new ArrayList<>();
+        try {
+            for (int index = 0; index < partCount; index++) {
+                int number = index + 1;
+                long partOffset = index * PART_SIZE;
+                long partSize = Math.min(PART_SIZE, size - partOffset);
+                try {
+                    parts.add(s3PartUploadExecutor.submit(
+                            () -> uploadPart(objectKey, uploadId, number, file, partOffset, partSize, failure, finished)));
+                } catch (TaskRejectedException e) {
+                    // 제출하지 못한 파트는 실행되지 않으므로 바로 감소
+                    for (int skipped = index; skipped < partCount; skipped++) {
+                        finished.countDown();
+                    }
+                    throw e;
+                }
+            }
+
+            List<PartETag> partETags = new ArrayList<>();
+            for (Future<PartETag> part : parts) {
+                partETags.add(part.get());
+            }
+            partETags.sort(Comparator.comparingInt(PartETag::getPartNumber));
+            String url = s3Util.completeMultipartUpload(objectKey, uploadId, partETags);
+            log.info("S3 멀티파트 업로드 완료: key={}, size={}, parts={}", objectKey, size, partETags.size());
+            return url;
+        } catch (ExecutionException e) {
+            abort(objectKey, uploadId, failure, finished);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("IMAGE_UPLOAD_ERROR", e.getCause());
+        } catch (InterruptedException e) {
+            abort(objectKey, uploadId, failure, finished);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("IMAGE_UPLOAD_INTERRUPTED", e);
+        } catch (RuntimeException e) {
+            abort(objectKey, uploadId, failure, finished);
+            throw e;
+        }
+    }
+
+    private PartETag uploadPart(String objectKey, String uploadId, int partNumber, Path file, long offset, long size,
+                                AtomicReference<RuntimeException> failure, CountDownLatch finished) {
+        try {
+            RuntimeException failed = failure.get();
+            if (failed != null) {
+                throw failed;
+            }
+            return uploadPartWithRetry(objectKey, uploadId, partNumber, file, offset, size);
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            throw e;
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private PartETag uploadPartWithRetry(String objectKey, String uploadId, int partNumber, Path file, long offset, long size) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return s3Util.uploadPart(objectKey, uploadId, partNumber, file, offset, size);
+            } catch (SdkClientException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("S3 파트 업로드 재시도 ({}/{}): key={}, part={}, error={}", attempt, MAX_ATTEMPTS, objectKey, partNumber, e.getMessage());
+                sleep(RETRY_BACKOFF_MILLIS * attempt);
+            }
+        }
+    }
+
+    // 아직 시작하지 않은 파트는 건너뛰게 하고, 전송 중인 파트가 모두 끝난 뒤 abort
+    // (전송 중에 abort하면 파트가 남을 수 있고, 반환 후 임시 파일이 삭제되므로 읽는 중인 파트가 없어야 함)
+    private void abort(String objectKey, String uploadId, AtomicReference<RuntimeException> failure, CountDownLatch finished) {
+        failure.compareAndSet(null, new IllegalStateException("IMAGE_UPLOAD_ABORTED"));
+        awaitUninterruptibly(finished);
+        try {
+            s3Util.abortMultipartUpload(objectKey, uploadId);
+            log.warn("S3 멀티파트 업로드 중단: key={}, uploadId={}", objectKey, uploadId);
+        } catch (RuntimeException e) {
+            log.error("S3 멀티파트 업로드 abort 실패: key={}, uploadId={}, error={}", objectKey, uploadId, e.getMessage());
+        }
+    }
+
+    // 요청 스레드가 인터럽트되어도 전송 중인 파트가 끝날 때까지 기다린 뒤 인터럽트 상태 복원
+    private void awaitUninterruptibly(CountDownLatch finished) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                finished.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("IMAGE_UPLOAD_INTERRUPTED", e);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.movelog.global.util;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.movelog.global.DefaultAssert;
+import com.movelog.global.exception.DefaultException;
+import com.movelog.global.payload.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이미지/영상 업로드 파이프라인
+ * 요청 본문을 로컬 임시 파일로 옮긴 뒤 제한된 업로드 스레드 풀에서 S3로 전송
+ * DB 트랜잭션 밖에서 호출하여 업로드 중에 JDBC 커넥션을 잡고 있지 않도록 함 (업로드가 끝난 뒤 짧은 트랜잭션으로 INSERT)
+ * 요청 전체에 영속성 컨텍스트가 열려 있으면 커넥션을 계속 잡으므로 spring.jpa.open-in-view는 false로 둠
+ * 시간 초과로 요청이 먼저 실패하면 업로드를 취소하고, 이미 올라간 객체는 삭제하여 남기지 않음
+ * 클라이언트가 presigned URL로 S3에 직접 올리는 경우 발급과 검증만 담당
+ * 발급한 objectKey는 요청한 사용자와 함께 Redis에 기록하고, 생성 API에서 같은 사용자일 때 한 번만 사용할 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3UploadPipeline {
+
+    private static final long UPLOAD_TIMEOUT_MINUTES = 10;
+    private static final long MULTIPART_THRESHOLD_BYTES = 2 * S3MultipartUploader.PART_SIZE;
+    private static final Duration PRESIGNED_URL_TTL = Duration.ofMinutes(15);
+    // 업로드 URL 만료 직전에 올린 경우에도 생성 API를 호출할 수 있도록 여유를 둠
+    private static final Duration PENDING_UPLOAD_TTL = PRESIGNED_URL_TTL.multipliedBy(2);
+    private static final String PENDING_UPLOAD_PREFIX = "upload:pending:";
+    private static final long MAX_UPLOAD_BYTES = 2L * 1024 * 1024 * 1024; // multipart 업로드 제한과 동일 (2GB)
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "video/mp4");
+
+    // KEYS[1]: 발급 기록, ARGV[1]: 사용자 ID, 같은 사용자의 발급 기록이면 삭제하고 1 반환
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    // direct: 클라이언트가 업로드 URL로 직접 올린 객체 (이 서버가 올리지 않았으므로 실패해도 삭제하지 않음)
+    public record UploadedObject(String objectKey, String url, boolean direct) {}
+
+    public record UploadUrl(String objectKey, String uploadUrl, LocalDateTime expiresAt) {}
+
+    private final S3Util s3Util;
+    private final S3MultipartUploader s3MultipartUploader;
+    @Qualifier("s3UploadExecutor")
+    private final ThreadPoolTaskExecutor s3UploadExecutor;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public UploadedObject uploadToRecordFolder(MultipartFile file) {
+        return upload(file, "record");
+    }
+
+    public UploadedObject uploadToNewsFolder(MultipartFile file) {
+        return upload(file, "news");
+    }
+
+    /**
+     * 클라이언트 직접 업로드용 PUT URL 발급
+     * 클라이언트는 발급된 URL로 같은 Content-Type 헤더와 함께 업로드한 뒤, 생성 API에 objectKey를 넘김
+     */
+    public UploadUrl createUploadUrl(Long userId, String folder, String fileName, String contentType) {
+        DefaultAssert.isTrue(ALLOWED_CONTENT_TYPES.contains(contentType), "업로드할 수 없는 파일 형식입니다: " + contentType);
+
+        String objectKey = s3Util.createObjectKey(fileName, folder);
+        Instant expiresAt = Instant.now().plus(PRESIGNED_URL_TTL);
+        String uploadUrl = s3Util.generatePresignedPutUrl(objectKey, contentType, Date.from(expiresAt)).toString();
+        redisTemplate.opsForValue().set(pendingKey(objectKey), String.valueOf(userId), PENDING_UPLOAD_TTL);
+        return new UploadUrl(objectKey, uploadUrl, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+    }
+
+    /**
+     * 클라이언트가 직접 업로드한 객체 검증 (HEAD 요청으로 존재 여부, 크기, Content-Type 확인)
+     * 같은 사용자에게 발급한 objectKey인지 확인하고 발급 기록을 사용 처리 (한 objectKey는 한 번만 사용)
+     */
+    public UploadedObject verifyDirectUpload(Long userId, String folder, String objectKey) {
+        DefaultAssert.isTrue(objectKey != null && !objectKey.isBlank(), "이미지 파일 또는 objectKey가 필요합니다.");
+        DefaultAssert.isTrue(objectKey.startsWith(folder + "/") && !objectKey.contains(".."), "잘못된 objectKey입니다: " + objectKey);
+
+        ObjectMetadata metadata = s3Util.findObjectMetadata(objectKey)
+                .orElseThrow(() -> new DefaultException(ErrorCode.INVALID_CHECK, "업로드된 파일이 없습니다: " + objectKey));
+        DefaultAssert.isTrue(metadata.getContentLength() > 0 && metadata.getContentLength() <= MAX_UPLOAD_BYTES,
+                "업로드된 파일 크기가 올바르지 않습니다: " + metadata.getContentLength());
+        DefaultAssert.isTrue(ALLOWED_CONTENT_TYPES.contains(metadata.getContentType()),
+                "업로드할 수 없는 파일 형식입니다: " + metadata.getContentType());
+
+        Long consumed = redisTemplate.execute(CONSUME_SCRIPT, List.of(pendingKey(objectKey)), String.valueOf(userId));
+        DefaultAssert.isTrue(consumed != null && consumed == 1L, "발급되지 않았거나 이미 사용된 objectKey입니다: " + objectKey);
+
+        return new UploadedObject(objectKey, s3Util.getUrl(objectKey), true);
+    }
+
+    /**
+     * 업로드 이후 DB 반영이 실패했을 때 정리
+     * 이 요청이 올린 객체는 삭제하고, 직접 업로드한 객체는 삭제하지 않고 다시 사용할 수 있도록 발급 기록을 되돌림
+     */
+    public void discard(Long userId, UploadedObject uploadedObject) {
+        if (uploadedObject == null) return;
+        if (!uploadedObject.direct()) {
+            deleteObjectQuietly(uploadedObject.objectKey());
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(pendingKey(uploadedObject.objectKey()), String.valueOf(userId), PENDING_UPLOAD_TTL);
+        } catch (RuntimeException e) {
+            log.warn("직접 업로드 발급 기록 복구 실패: key={}, error={}", uploadedObject.objectKey(), e.getMessage());
+        }
+    }
+
+    private void deleteObjectQuietly(String objectKey) {
+        try {
+            s3Util.deleteObject(objectKey);
+        } catch (RuntimeException e) {
+            log.warn("업로드된 객체 삭제 실패: key={}, error={}", objectKey, e.getMessage());
+        }
+    }
+
+    private UploadedObject upload(MultipartFile file, String folder) {
+        String objectKey = s3Util.createObjectKey(file, folder);
+        String contentType = file.getContentType();
+        Path staged = stage(file);
+
+        // 업로드 완료와 요청 포기 중 나중에 일어난 쪽이 올라간 객체를 삭제
+        AtomicBoolean settled = new AtomicBoolean();
+        Future<String> upload;
+        try {
+            upload = s3UploadExecutor.submit(() -> {
+                String url = uploadAndDelete(staged, objectKey, contentType);
+                if (!settled.compareAndSet(false, true)) {
+                    log.warn("시간 초과된 요청의 업로드가 끝나 객체 삭제: key={}", objectKey);
+                    deleteObjectQuietly(objectKey);
+                }
+                return url;
+            });
+        } catch (TaskRejectedException e) {
+            deleteStaged(staged);
+            throw new IllegalStateException("IMAGE_UPLOAD_BUSY", e);
+        }
+
+        try {
+            return new UploadedObject(objectKey, upload.get(UPLOAD_TIMEOUT_MINUTES, TimeUnit.MINUTES), false);
+        } catch (ExecutionException e) {
+            log.error("S3 업로드 실패: key={}, error={}", objectKey, e.getMessage());
+            throw new IllegalArgumentException("IMAGE_UPLOAD_ERROR", e);
+        } catch (TimeoutException e) {
+            abandon(upload, settled, objectKey);
+            log.error("S3 업로드 시간 초과: key={}", objectKey);
+            throw new IllegalArgumentException("IMAGE_UPLOAD_ERROR", e);
+        } catch (InterruptedException e) {
+            abandon(upload, settled, objectKey);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("IMAGE_UPLOAD_INTERRUPTED", e);
+        }
+    }
+
+    // 응답을 기다리지 않는 업로드 중단 (전송 중이면 인터럽트), 이미 업로드가 끝났다면 객체 삭제
+    private void abandon(Future<String> upload, AtomicBoolean settled, String objectKey) {
+        upload.cancel(true);
+        if (!settled.compareAndSet(false, true)) {
+            deleteObjectQuietly(objectKey);
+        }
+    }
+
+    // 요청이 끝나면 사라지는 multipart 본문을 업로드 스레드가 읽을 수 있도록 임시 파일로 옮김
+    private Path stage(MultipartFile file) {
+        try {
+            Path staged = Files.createTempFile("movelog-upload-", null);
+            file.transferTo(staged);
+            return staged;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("IMAGE_UPLOAD_ERROR", e);
+        }
+    }
+
+    private String uploadAndDelete(Path staged, String objectKey, String contentType) {
+        try {
+            // 큰 파일은 파트로 나누어 병렬 업로드
+            if (Files.size(staged) >= MULTIPART_THRESHOLD_BYTES) {
+                return s3MultipartUploader.upload(staged, objectKey, contentType);
+            }
+            return s3Util.upload(staged, objectKey, contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteStaged(staged);
+        }
+    }
+
+    private String pendingKey(String objectKey) {
+        return PENDING_UPLOAD_PREFIX + objectKey;
+    }
+
+    private void deleteStaged(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패: path={}, error={}", staged, e.getMessage());
+        }
+    }
+}
@@ -2,19 +2,33 @@ package com.movelog.global.util;
 
 
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import jakarta.annotation.PostConstruct;
-import java.io.IOException;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -49,36 +63,108 @@ public class S3Util {
     }
 
 
-    public String uploadToRecordFolder(MultipartFile file) {
-        return uploadToFolder(file, "record");
+    // 폴더 아래 중복되지 않는 객체 Key 생성 (확장자 검사 포함)
+    public String createObjectKey(MultipartFile file, String folder) {
+        return createObjectKey(file.getOriginalFilename(), folder);
     }
 
-    public String uploadToNewsFolder(MultipartFile file) {
-        return uploadToFolder(file, "news");
-    }
-
-    private String uploadToFolder(MultipartFile file, String folder) {
+    public String createObjectKey(String fileName, String folder) {
         if (!folder.endsWith("/")) {
             folder += "/";
         }
-        return upload(file, folder + createFileName(file.getOriginalFilename()));
+        return folder + createFileName(fileName);
     }
 
-    private String upload(MultipartFile file, String filePath) {
-        String imageUrl = "";
+    // 로컬 파일을 객체 Key로 업로드하고 URL 반환
+    public String upload(Path file, String objectKey, String contentType) {
         ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentLength(file.getSize());
-        objectMetadata.setContentType(file.getContentType());
-
-        try (InputStream inputStream = file.getInputStream()) {
-            s3Client.putObject(new PutObjectRequest(bucket, filePath, inputStream, objectMetadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
-            imageUrl = s3Client.getUrl(bucket, filePath).toString();
-        } catch (IOException e) {
-            throw new IllegalArgumentException("IMAGE_UPLOAD_ERROR");
+        objectMetadata.setContentType(contentType);
+
+        s3Client.putObject(new PutObjectRequest(bucket, objectKey, file.toFile())
+                .withMetadata(objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+        return s3Client.getUrl(bucket, objectKey).toString();
+    }
+
+    // 멀티파트 업로드 시작 (업로드 ID 반환)
+    public String initiateMultipartUpload(String objectKey, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+
+        return s3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, objectKey, objectMetadata)
+                        .withCannedACL(CannedAccessControlList.PublicRead))
+                .getUploadId();
+    }
+
+    // 파일의 [offset, offset + size) 구간을 한 파트로 업로드 (SDK가 파일에서 직접 읽음)
+    public PartETag uploadPart(String objectKey, String uploadId, int partNumber, Path file, long offset, long size) {
+        return s3Client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(objectKey)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withFile(file.toFile())
+                        .withFileOffset(offset)
+                        .withPartSize(size))
+                .getPartETag();
+    }
+
+    public String completeMultipartUpload(String objectKey, String uploadId, List<PartETag> partETags) {
+        s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, objectKey, uploadId, partETags));
+        return s3Client.getUrl(bucket, objectKey).toString();
+    }
+
+    // 실패한 멀티파트 업로드의 파트 정리
+    public void abortMultipartUpload(String objectKey, String uploadId) {
+        s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, objectKey, uploadId));
+    }
+
+    // 클라이언트가 직접 업로드할 수 있는 PUT URL 발급 (Content-Type, 공개 읽기 권한까지 서명에 포함)
+    public URL generatePresignedPutUrl(String objectKey, String contentType, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, objectKey, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        request.addRequestParameter(Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+        return s3Client.generatePresignedUrl(request);
+    }
+
+    // HEAD 요청으로 업로드된 객체 정보 조회 (없으면 empty)
+    public Optional<ObjectMetadata> findObjectMetadata(String objectKey) {
+        try {
+            return Optional.of(s3Client.getObjectMetadata(bucket, objectKey));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
         }
-        return imageUrl;
     }
+
+    public String getUrl(String objectKey) {
+        return s3Client.getUrl(bucket, objectKey).toString();
+    }
+
+    // 객체 내용 읽기 (호출한 쪽에서 닫아야 함)
+    public InputStream openObject(String objectKey) {
+        return s3Client.getObject(bucket, objectKey).getObjectContent();
+    }
+
+    // 메모리의 내용을 객체 Key로 업로드하고 URL 반환 (썸네일 등 작은 파일용)
+    public String upload(byte[] content, String objectKey, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(content.length);
+
+        s3Client.putObject(new PutObjectRequest(bucket, objectKey, new ByteArrayInputStream(content), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+        return s3Client.getUrl(bucket, objectKey).toString();
+    }
+
+    // 객체 Key로 S3 파일 삭제
+    public void deleteObject(String objectKey) {
+        s3Client.deleteObject(new DeleteObjectRequest(bucket, objectKey));
+    }
+
     // 이미지파일명 중복 방지
     private String createFileName(String fileName) {
         return UUID.randomUUID().toString().concat(getFileExtension(fileName));
@@ -0,0 +1,20 @@
+package com.movelog.global.util;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 썸네일을 생성해 저장하는 대상 테이블 (기록, 뉴스)
+ */
+public interface ThumbnailTarget {
+
+    // 원본이 저장된 S3 폴더 (재생성 시 URL에서 객체 Key 복원, 락/커서 Key 구분에도 사용)
+    String folder();
+
+    // 이미지가 있지만 썸네일이 없는 행 {ID, 원본 URL} (ID 순 keyset)
+    List<Object[]> findMissingThumbnails(Long lastId, LocalDateTime createdBefore, Pageable pageable);
+
+    void updateThumbnails(Long id, String smallUrl, String mediumUrl);
+}
@@ -0,0 +1,130 @@
+package com.movelog.global.util;
+
+import com.movelog.global.lock.RedisLockManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 썸네일 생성 작업을 대기열에 넣고, 결과를 대상 테이블(ThumbnailTarget)에 반영
+ * 대기열이 가득 차거나 재시작으로 버려진 작업은 주기적인 재생성(sweep)으로 복구
+ * 재생성 커서와 시도 횟수는 Redis에 두어 락을 획득한 인스턴스가 바뀌어도 이어서 진행하고,
+ * MAX_ATTEMPTS번 실패한 행(손상된 이미지, 너무 큰 원본 등)은 다시 내려받지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailUpdater {
+
+    private static final String SWEEP_LOCK_PREFIX = "thumbnail:sweep:";
+    private static final String CURSOR_PREFIX = "thumbnail:sweep:cursor:";
+    private static final String ATTEMPTS_PREFIX = "thumbnail:sweep:attempts:";
+    private static final Duration SWEEP_LOCK_TTL = Duration.ofMinutes(5);
+    // 썸네일 생성 대기열(100)을 혼자 채우지 않도록 한 번에 넣는 개수
+    private static final int SWEEP_BATCH_SIZE = 50;
+    // 커밋 직후 이벤트로 생성 중인 썸네일과 겹치지 않도록 생성 후 일정 시간이 지난 행만 재생성
+    private static final Duration SWEEP_MIN_AGE = Duration.ofMinutes(10);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ImageThumbnailGenerator imageThumbnailGenerator;
+    @Qualifier("thumbnailExecutor")
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+    private final RedisLockManager redisLockManager;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 생성 커밋 이후 썸네일 생성 요청 (대기열이 가득 차면 재생성에서 처리)
+     * 썸네일이 만들어지기 전까지는 썸네일 URL이 null이므로 클라이언트는 원본 이미지를 사용
+     */
+    public void submit(ThumbnailTarget target, Long id, String objectKey) {
+        try {
+            thumbnailExecutor.execute(() -> generate(target, id, objectKey));
+        } catch (TaskRejectedException e) {
+            log.warn("Thumbnail queue is full, skipping {} id={}", target.folder(), id);
+        }
+    }
+
+    /**
+     * 이미지가 있지만 썸네일이 없는 행 재생성, 여러 인스턴스 중 락을 획득한 하나만 실행
+     * 커서 이후 SWEEP_BATCH_SIZE개씩 진행하고, 끝까지 확인하면 처음부터 다시 확인
+     */
+    public void sweep(ThumbnailTarget target) {
+        redisLockManager.runExclusively(SWEEP_LOCK_PREFIX + target.folder(), SWEEP_LOCK_TTL, lease -> sweepBatch(target));
+    }
+
+    private void sweepBatch(ThumbnailTarget target) {
+        String cursorKey = CURSOR_PREFIX + target.folder();
+        String attemptsKey = ATTEMPTS_PREFIX + target.folder();
+        String cursor = redisTemplate.opsForValue().get(cursorKey);
+        long lastId = cursor == null ? 0L : Long.parseLong(cursor);
+
+        List<Object[]> rows = target.findMissingThumbnails(lastId,
+                LocalDateTime.now().minus(SWEEP_MIN_AGE), PageRequest.of(0, SWEEP_BATCH_SIZE));
+        if (rows.isEmpty()) {
+            redisTemplate.delete(cursorKey);
+            return;
+        }
+        List<Object> attempts = redisTemplate.opsForHash().multiGet(attemptsKey,
+                rows.stream().map(row -> (Object) String.valueOf(row[0])).toList());
+
+        int submitted = 0;
+        boolean paused = false;
+        for (int i = 0; i < rows.size(); i++) {
+            Long id = ((Number) rows.get(i)[0]).longValue();
+            Object attempted = attempts.get(i);
+            if (attempted == null || Integer.parseInt((String) attempted) < MAX_ATTEMPTS) {
+                String objectKey = ImageThumbnailGenerator.objectKeyFromUrl((String) rows.get(i)[1], target.folder());
+                try {
+                    thumbnailExecutor.execute(() -> generate(target, id, objectKey));
+                } catch (TaskRejectedException e) {
+                    // 대기열이 가득 찬 경우 다음 주기에 이 행부터 다시 확인
+                    log.warn("Thumbnail queue is full, pausing sweep at {} id={}", target.folder(), id);
+                    paused = true;
+                    break;
+                }
+                redisTemplate.opsForHash().increment(attemptsKey, String.valueOf(id), 1L);
+                submitted++;
+            }
+            lastId = id;
+        }
+
+        // 마지막 배치까지 확인했으면 다음 주기에는 처음부터 다시 확인
+        if (!paused && rows.size() < SWEEP_BATCH_SIZE) {
+            redisTemplate.delete(cursorKey);
+        } else {
+            redisTemplate.opsForValue().set(cursorKey, String.valueOf(lastId));
+        }
+        if (submitted > 0) {
+            log.info("썸네일 재생성 요청: {} {}개", target.folder(), submitted);
+        }
+    }
+
+    private void generate(ThumbnailTarget target, Long id, String objectKey) {
+        try {
+            imageThumbnailGenerator.generate(objectKey).ifPresent(thumbnails -> {
+                target.updateThumbnails(id, thumbnails.smallUrl(), thumbnails.mediumUrl());
+                clearAttempts(target, id);
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to generate thumbnails for {} id={}: {}", target.folder(), id, e.getMessage());
+        }
+    }
+
+    private void clearAttempts(ThumbnailTarget target, Long id) {
+        try {
+            redisTemplate.opsForHash().delete(ATTEMPTS_PREFIX + target.folder(), String.valueOf(id));
+        } catch (DataAccessException e) {
+            log.warn("Failed to clear thumbnail attempts for {} id={}: {}", target.folder(), id, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.movelog;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.movelog.domain.news.domain.News;
+import com.movelog.domain.news.domain.repository.NewsRepository;
+import com.movelog.domain.record.application.StatsWarmUpService;
+import com.movelog.domain.record.domain.Keyword;
+import com.movelog.domain.record.domain.Record;
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.domain.repository.KeywordRepository;
+import com.movelog.domain.record.domain.repository.RecordRepository;
+import com.movelog.domain.user.domain.User;
+import com.movelog.domain.user.domain.repository.UserRepository;
+import com.movelog.global.config.security.token.UserPrincipal;
+import com.movelog.support.SqlStatementRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Answers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 예산 검증
+ * 내장 H2에 기록/키워드/뉴스를 여러 건 넣어두고 요청 한 번에 실행된 SQL을 세어
+ * 예산을 넘거나 같은 SQL이 반복되면 (N+1 의심) 실패
+ * Redis, S3는 mock으로 대체하므로 Redis만 읽는 통계 API는 대상에서 제외
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EndpointQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @MockBean(answer = Answers.RETURNS_DEEP_STUBS)
+    private StringRedisTemplate redisTemplate;
+
+    @MockBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @MockBean
+    private AmazonS3 amazonS3;
+
+    @MockBean
+    private StatsWarmUpService statsWarmUpService;
+
+    private UserPrincipal principal;
+    private Long keywordId;
+
+    // 엔드포인트, 허용 SQL 실행 횟수 (사용자 조회 포함)
+    static Stream<Arguments> endpoints() {
+        return Stream.of(
+                Arguments.of("/api/v1/record/today", 2),
+                Arguments.of("/api/v1/record/image/{keywordId}", 3),
+                Arguments.of("/api/v1/record/search?keyword=헬", 2),
+                Arguments.of("/api/v1/record/calendar/{date}", 3),
+                Arguments.of("/api/v1/record/current", 2),
+                Arguments.of("/api/v1/news/recommend", 2),
+                Arguments.of("/api/v1/news/week", 3),
+                Arguments.of("/api/v1/news/today", 2),
+                Arguments.of("/api/v1/news/calendar/{date}", 3),
+                Arguments.of("/api/v1/stats/word/search?keyword=헬", 2),
+                Arguments.of("/api/v1/stats/word/my/{keywordId}", 7),
+                Arguments.of("/api/v1/stats/word/recommend", 2),
+                Arguments.of("/api/v1/stats/word/all?keyword=헬스", 3)
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .nickname("tester")
+                .username("tester")
+                .email("tester@movelog.com")
+                .role("ROLE_USER")
+                .provider("kakao")
+                .providerId("tester")
+                .build());
+
+        List<Keyword> keywords = keywordRepository.saveAll(List.of(
+                Keyword.builder().user(user).keyword("헬스").verbType(VerbType.DO).build(),
+                Keyword.builder().user(user).keyword("헬스장").verbType(VerbType.GO).build(),
+                Keyword.builder().user(user).keyword("라면").verbType(VerbType.EAT).build()));
+
+        // 키워드마다 기록과 뉴스를 두 건씩 넣어 행 단위 지연 로딩이 반복 SQL로 드러나도록 함
+        for (Keyword keyword : keywords) {
+            recordRepository.saveAll(List.of(
+                    Record.builder().keyword(keyword).recordImage(keyword.getKeyword() + "-1.jpg").build(),
+                    Record.builder().keyword(keyword).recordImage(null).build()));
+            newsRepository.saveAll(List.of(
+                    News.builder().keyword(keyword).headLine(keyword.getKeyword() + " 뉴스 1").newsUrl(keyword.getKeyword() + "-news-1.jpg").build(),
+                    News.builder().keyword(keyword).headLine(keyword.getKeyword() + " 뉴스 2").newsUrl(keyword.getKeyword() + "-news-2.jpg").build()));
+        }
+
+        principal = UserPrincipal.createUser(user);
+        keywordId = keywords.get(0).getKeywordId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        newsRepository.deleteAllInBatch();
+        recordRepository.deleteAllInBatch();
+        keywordRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest(name = "{0} (SQL {1}회 이하)")
+    @MethodSource("endpoints")
+    void 엔드포인트는_SQL_예산_안에서_응답한다(String path, int budget) throws Exception {
+        String url = path
+                .replace("{keywordId}", String.valueOf(keywordId))
+                .replace("{date}", LocalDate.now().toString());
+
+        SqlStatementRecorder.start();
+        try {
+            mockMvc.perform(get(url).with(user(principal)))
+                    .andExpect(status().isOk());
+        } finally {
+            List<String> statements = SqlStatementRecorder.stop();
+            assertWithinBudget(url, statements, budget);
+        }
+    }
+
+    private void assertWithinBudget(String url, List<String> statements, int budget) {
+        Map<String, Long> repeated = statements.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .filter(entry -> entry.getValue() > 1)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        assertThat(repeated)
+                .as("%s 요청에서 같은 SQL이 반복 실행됨 (N+1 의심)", url)
+                .isEmpty();
+        assertThat(statements)
+                .as("%s 요청의 SQL 실행 횟수가 예산(%d회)을 넘음: %s", url, budget, statements)
+                .hasSizeLessThanOrEqualTo(budget);
+    }
+}
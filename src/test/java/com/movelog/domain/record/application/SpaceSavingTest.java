@@ -0,0 +1,90 @@
+package com.movelog.domain.record.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Space-Saving 카운터의 교체와 늘어난 횟수(delta) 계산 검증
+ * 교체가 일어나도 drainDeltas 합계가 offer 횟수와 같아야 Redis 합산이 어긋나지 않음
+ */
+class SpaceSavingTest {
+
+    @Test
+    void drainDeltas_returnsCountsSinceLastDrain() {
+        SpaceSaving spaceSaving = new SpaceSaving(3);
+        spaceSaving.offer("운동");
+        spaceSaving.offer("운동");
+        spaceSaving.offer("독서");
+
+        assertThat(spaceSaving.drainDeltas()).isEqualTo(Map.of("운동", 2L, "독서", 1L));
+        assertThat(spaceSaving.drainDeltas()).isEmpty();
+
+        spaceSaving.offer("운동");
+        assertThat(spaceSaving.drainDeltas()).isEqualTo(Map.of("운동", 1L));
+    }
+
+    @Test
+    void offer_whenFull_replacesLeastCountedKeyAndInheritsItsCount() {
+        SpaceSaving spaceSaving = new SpaceSaving(2);
+        spaceSaving.offer("운동");
+        spaceSaving.offer("독서");
+        spaceSaving.offer("독서");
+        spaceSaving.drainDeltas();
+
+        // 가장 적게 센 "운동"(1회)을 교체하고, 물려받은 1회는 이미 반영된 것으로 처리
+        spaceSaving.offer("요리");
+
+        assertThat(spaceSaving.drainDeltas()).isEqualTo(Map.of("요리", 1L));
+    }
+
+    @Test
+    void drainDeltas_afterReplacement_includesUnflushedCountOfEvictedKey() {
+        SpaceSaving spaceSaving = new SpaceSaving(2);
+        spaceSaving.offer("운동");
+        spaceSaving.offer("독서");
+        spaceSaving.offer("독서");
+
+        // 반영 전에 "운동"이 교체되어도 남은 1회는 사라지지 않음
+        spaceSaving.offer("요리");
+
+        Map<String, Long> deltas = spaceSaving.drainDeltas();
+        assertThat(deltas).isEqualTo(Map.of("운동", 1L, "독서", 2L, "요리", 1L));
+        assertThat(deltas.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(4L);
+        assertThat(spaceSaving.drainDeltas()).isEmpty();
+    }
+
+    @Test
+    void offer_unlinksEmptiedBuckets_soMinBucketStaysValid() {
+        SpaceSaving spaceSaving = new SpaceSaving(2);
+        spaceSaving.offer("운동");
+        spaceSaving.offer("독서");
+        spaceSaving.offer("운동");
+        spaceSaving.offer("운동");
+        spaceSaving.offer("독서");
+        spaceSaving.offer("독서");
+
+        // 1회, 2회 버킷이 비어 연결에서 빠졌으므로 가장 적은 버킷은 3회 버킷이고, 먼저 들어간 "운동"이 교체됨
+        spaceSaving.offer("요리");
+
+        assertThat(spaceSaving.drainDeltas()).isEqualTo(Map.of("운동", 3L, "독서", 3L, "요리", 1L));
+
+        spaceSaving.offer("독서");
+        assertThat(spaceSaving.drainDeltas()).isEqualTo(Map.of("독서", 1L));
+    }
+
+    @Test
+    void restoreDeltas_returnsFailedDeltasOnNextDrain() {
+        SpaceSaving spaceSaving = new SpaceSaving(2);
+        spaceSaving.offer("운동");
+        spaceSaving.offer("운동");
+
+        Map<String, Long> failed = spaceSaving.drainDeltas();
+        spaceSaving.restoreDeltas(failed);
+        spaceSaving.offer("운동");
+
+        assertThat(spaceSaving.drainDeltas()).isEqualTo(Map.of("운동", 3L));
+    }
+}
@@ -0,0 +1,188 @@
+package com.movelog.domain.record.domain.repository;
+
+import com.movelog.domain.news.domain.News;
+import com.movelog.domain.news.domain.repository.NewsRepository;
+import com.movelog.domain.news.dto.projection.NewsRow;
+import com.movelog.domain.record.domain.Keyword;
+import com.movelog.domain.record.domain.Record;
+import com.movelog.domain.record.domain.VerbType;
+import com.movelog.domain.record.dto.projection.KeywordRecordSummary;
+import com.movelog.domain.record.dto.projection.RecordCalendarRow;
+import com.movelog.domain.record.dto.projection.RecordImageRow;
+import com.movelog.domain.user.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 API가 사용하는 projection 쿼리의 SQL 실행 횟수 검증
+ * 목록 행마다 키워드를 지연 로딩하지 않고 (N+1 없음) 엔티티도 영속성 컨텍스트에 올리지 않는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReadProjectionQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    private Statistics statistics;
+    private User user;
+    private LocalDateTime startOfDay;
+    private LocalDateTime endOfDay;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .nickname("")
+                .username("tester")
+                .email("tester@movelog.com")
+                .role("ROLE_USER")
+                .provider("kakao")
+                .providerId("tester")
+                .build());
+
+        Keyword workout = entityManager.persist(Keyword.builder().user(user).keyword("헬스").verbType(VerbType.DO).build());
+        Keyword ramen = entityManager.persist(Keyword.builder().user(user).keyword("라면").verbType(VerbType.EAT).build());
+        Keyword park = entityManager.persist(Keyword.builder().user(user).keyword("공원").verbType(VerbType.GO).build());
+
+        entityManager.persist(Record.builder().keyword(workout).recordImage("workout.jpg").build());
+        entityManager.persist(Record.builder().keyword(ramen).recordImage(null).build());
+        entityManager.persist(Record.builder().keyword(park).recordImage("park.jpg").build());
+
+        entityManager.persist(News.builder().keyword(workout).headLine("헬스 뉴스").newsUrl("workout-news.jpg").build());
+        entityManager.persist(News.builder().keyword(ramen).headLine("라면 뉴스").newsUrl("ramen-news.jpg").build());
+        entityManager.persist(News.builder().keyword(park).headLine("공원 뉴스").newsUrl("park-news.jpg").build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        startOfDay = LocalDate.now().atStartOfDay();
+        endOfDay = LocalDate.now().atTime(LocalTime.MAX);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 날짜별_기록_목록은_내용과_개수_쿼리_두_번으로_조회된다() {
+        Page<RecordCalendarRow> page = recordRepository.findCalendarRowsByUserId(user.getId(), startOfDay, endOfDay, PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getContent()).allSatisfy(row -> {
+            assertThat(row.getNoun()).isNotNull();
+            assertThat(row.getVerbType()).isNotNull();
+        });
+        assertStatements(2);
+    }
+
+    @Test
+    void 오늘_기록한_카테고리는_한_번에_조회된다() {
+        List<VerbType> verbTypes = recordRepository.findVerbTypesByUserIdAndActionTimeBetween(user.getId(), startOfDay, endOfDay);
+
+        assertThat(verbTypes).containsExactlyInAnyOrder(VerbType.DO, VerbType.EAT, VerbType.GO);
+        assertStatements(1);
+    }
+
+    @Test
+    void 최근_기록_이미지는_이미지가_있는_기록만_한_번에_조회된다() {
+        List<RecordImageRow> images = recordRepository.findRecentImagesByUserId(user.getId(), PageRequest.of(0, 5));
+
+        assertThat(images).extracting(RecordImageRow::getRecordImage).containsExactlyInAnyOrder("workout.jpg", "park.jpg");
+        assertStatements(1);
+    }
+
+    @Test
+    void 파생_컬럼이_비어_있는_기존_기록도_키워드_조인으로_조회된다() {
+        clearRecordColumns();
+
+        assertThat(recordRepository.findVerbTypesByUserIdAndActionTimeBetween(user.getId(), startOfDay, endOfDay)).isEmpty();
+        assertThat(recordRepository.findVerbTypesByKeywordUserIdAndActionTimeBetween(user.getId(), startOfDay, endOfDay))
+                .containsExactlyInAnyOrder(VerbType.DO, VerbType.EAT, VerbType.GO);
+
+        Page<RecordCalendarRow> page = recordRepository.findCalendarRowsByKeywordUserId(user.getId(), startOfDay, endOfDay, PageRequest.of(0, 2));
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).allSatisfy(row -> assertThat(row.getVerbType()).isNotNull());
+
+        assertThat(recordRepository.findRecentImagesByKeywordUserId(user.getId(), PageRequest.of(0, 5)))
+                .extracting(RecordImageRow::getRecordImage).containsExactlyInAnyOrder("workout.jpg", "park.jpg");
+    }
+
+    @Test
+    void 파생_컬럼은_기록_ID_구간_단위로_채워진다() {
+        clearRecordColumns();
+        long maxRecordId = recordRepository.findMaxRecordId().orElseThrow();
+
+        assertThat(recordRepository.fillMissingKeywordColumns(0L, maxRecordId)).isEqualTo(3);
+        assertThat(recordRepository.fillMissingKeywordColumns(0L, maxRecordId)).isZero();
+        assertThat(recordRepository.findVerbTypesByUserIdAndActionTimeBetween(user.getId(), startOfDay, endOfDay))
+                .containsExactlyInAnyOrder(VerbType.DO, VerbType.EAT, VerbType.GO);
+    }
+
+    @Test
+    void 명사별_기록_요약은_한_번에_조회된다() {
+        KeywordRecordSummary summary = recordRepository.summarizeByNoun("헬스", LocalDateTime.now().minusDays(7));
+
+        assertThat(summary.getRecordCount()).isEqualTo(1L);
+        assertThat(summary.getRecentCount()).isEqualTo(1L);
+        assertThat(summary.getLastRecordedAt()).isNotNull();
+        assertStatements(1);
+    }
+
+    @Test
+    void 최근_뉴스_목록은_내용과_개수_쿼리_두_번으로_조회된다() {
+        Page<NewsRow> page = newsRepository.findRecentNewsRowsByUserId(user.getId(), LocalDateTime.now().minusDays(7), PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).allSatisfy(row -> assertThat(row.getNoun()).isNotNull());
+        assertStatements(2);
+    }
+
+    @Test
+    void 날짜별_뉴스_목록은_내용과_개수_쿼리_두_번으로_조회된다() {
+        Page<NewsRow> page = newsRepository.findNewsRowsByUserIdAndCreatedAtBetween(user.getId(), startOfDay, endOfDay, PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).allSatisfy(row -> assertThat(row.getVerbType()).isNotNull());
+        assertStatements(2);
+    }
+
+    // 컬럼 추가 이전에 생성된 기록처럼 user_id, verb_type을 비움
+    private void clearRecordColumns() {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE record SET user_id = NULL, verb_type = NULL")
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private void assertStatements(long expected) {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}